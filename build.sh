@@ -1,4 +1,26 @@
 #!/bin/bash
+# Usage: ./build.sh                 builds and runs the application
+#        ./build.sh vector          also builds the optional Vector API cost backend in src/vector/java
+#        ./build.sh bench <Class>   also builds src/bench/java and runs the given harness instead
+#        ./build.sh vector bench <Class>
+MAIN_CLASS="Main"
+SOURCE_DIRS="src/main/java"
+VECTOR_MODULE=""
+if [ "$1" == "vector" ]; then
+  # The vector backend needs the incubating Vector API module, at compile and run time
+  VECTOR_MODULE="--add-modules jdk.incubator.vector"
+  SOURCE_DIRS="$SOURCE_DIRS src/vector/java"
+  shift
+fi
+if [ "$1" == "bench" ]; then
+  if [ -z "$2" ]; then
+    echo "Usage: ./build.sh bench <Class>, e.g. ./build.sh bench Algorithms.CostKernelParity"
+    exit 1
+  fi
+  MAIN_CLASS="$2"
+  SOURCE_DIRS="$SOURCE_DIRS src/bench/java"
+fi
+
 echo "Building..."
 
 mkdir -p out
@@ -14,8 +36,8 @@ fi
 
 
 # Compile all Java files with dependencies in classpath
-find src/main/java -name "*.java" > sources.txt
-javac -cp "lib/jfreechart-1.5.3.jar:lib/jcommon-1.0.24.jar:out" -d out @sources.txt
+find $SOURCE_DIRS -name "*.java" > sources.txt
+javac $VECTOR_MODULE -cp "lib/jfreechart-1.5.3.jar:lib/jcommon-1.0.24.jar:out" -d out @sources.txt
 BUILD_RESULT=$?
 rm sources.txt
 
@@ -32,5 +54,5 @@ fi
 
 echo "Build successful!"
 echo "Running..."
-# Run Main class
-java -cp "lib/jfreechart-1.5.3.jar:lib/jcommon-1.0.24.jar:out" Main
\ No newline at end of file
+# Run Main class, or the requested benchmark harness
+java $VECTOR_MODULE -cp "lib/jfreechart-1.5.3.jar:lib/jcommon-1.0.24.jar:out" $MAIN_CLASS
\ No newline at end of file
@@ -0,0 +1,193 @@
+package Algorithms;
+
+import Exceptions.LoadDataException;
+import Model.CompatibilityIndex;
+import Model.Employee;
+import Model.ProblemInstance;
+import Model.Task;
+import Utilities.DataGenerator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Parity check of the fused {@link CostKernel} against the separate per-component passes of
+ * {@link CostCalculator} on the bundled instances. Every solution must give a bit-identical
+ * total, a breakdown matching each penalty and the same answer from both feasibility checks.
+ * Run with: ./build.sh bench Algorithms.CostKernelParity
+ */
+public final class CostKernelParity
+{
+    private static final String RESOURCES_DIR = "out/resources/";
+    private static final String[] INSTANCES = {"size-10", "size-100", "size-500", "Default-ParamTest"};
+    private static final int SOLUTIONS = 2_000;
+    private static final long SEED = 42;
+
+    private CostKernelParity()
+    {
+    }
+
+    public static void main(String[] args) throws LoadDataException
+    {
+        int failures = 0;
+        for (String instance : INSTANCES)
+        {
+            List<Task> tasks = DataGenerator.loadTasks(RESOURCES_DIR + instance + "/Tasks.csv");
+            List<Employee> employees = DataGenerator.loadEmployees(RESOURCES_DIR + instance + "/Employees.csv");
+            failures += check(instance, tasks, employees);
+            // Some tasks of every bundled instance have no compatible employee, so no solution is
+            // feasible; a relaxed copy reaches the feasible side of the hard constraint checks
+            failures += check(instance + " relaxed", tasks, relaxed(tasks, employees));
+        }
+
+        if (failures > 0)
+        {
+            System.out.println("Parity check FAILED");
+            System.exit(1);
+        }
+        System.out.println("Parity check passed");
+    }
+
+    /**
+     * Compares the fused and legacy evaluations of random solutions of one instance.
+     *
+     * @return The number of solutions that did not match
+     */
+    private static int check(String name, List<Task> tasks, List<Employee> employees)
+    {
+        ProblemInstance problem = ProblemInstance.of(tasks, employees);
+        SplittableRandom random = new SplittableRandom(SEED);
+        CostBreakdown breakdown = new CostBreakdown();
+
+        int mismatches = 0;
+        int feasible = 0;
+        for (int i = 0; i < SOLUTIONS; i++)
+        {
+            // Rotate uniform solutions, skill matched ones, which reach the zero penalty branches, and
+            // skill matched ones that also respect available hours, which can be feasible
+            int[] solution = switch (i % 3)
+            {
+                case 0 -> uniformSolution(problem, random);
+                case 1 -> compatibleSolution(problem, random);
+                default -> packedSolution(problem, random);
+            };
+            if (!matches(solution, tasks, employees, problem, breakdown))
+            {
+                mismatches++;
+            }
+            if (breakdown.isFeasible())
+            {
+                feasible++;
+            }
+        }
+        System.out.printf("%-26s %4d tasks %4d employees: %d/%d mismatches, %d feasible%n",
+                name, tasks.size(), employees.size(), mismatches, SOLUTIONS, feasible);
+        return mismatches;
+    }
+
+    /**
+     * @return Copies of the employees with every skill at the highest task difficulty, so only
+     *         available hours can make a solution infeasible
+     */
+    private static List<Employee> relaxed(List<Task> tasks, List<Employee> employees)
+    {
+        Set<String> skills = new HashSet<>();
+        int maxDifficulty = 0;
+        for (Task task : tasks)
+        {
+            skills.add(task.getRequiredSkill());
+            maxDifficulty = Math.max(maxDifficulty, task.getDifficulty());
+        }
+        List<Employee> relaxed = new ArrayList<>();
+        for (Employee employee : employees)
+        {
+            relaxed.add(new Employee(employee.getId(), employee.getAvailableHours(), maxDifficulty, skills,
+                    employee.getIdx()));
+        }
+        return relaxed;
+    }
+
+    /**
+     * Compares the fused evaluation of one solution with every legacy component.
+     */
+    private static boolean matches(int[] solution, List<Task> tasks, List<Employee> employees,
+                                   ProblemInstance problem, CostBreakdown breakdown)
+    {
+        double fused = CostKernel.evaluate(solution, problem, breakdown);
+        double legacy = CostCalculator.calculateTotalCost(solution, tasks, employees);
+
+        boolean ok = Double.doubleToLongBits(fused) == Double.doubleToLongBits(legacy)
+                && breakdown.getTotalCost() == fused
+                && breakdown.getOverloadHours() == CostCalculator.calculateOverloadPenalty(solution, tasks, employees)
+                && breakdown.getSkillMismatches() == CostCalculator.calculateSkillMismatchPenalty(solution, tasks, employees)
+                && breakdown.getSkillLevelViolations() == CostCalculator.calculateSkillLevelPenalty(solution, tasks, employees)
+                && breakdown.getUnassignedTasks()
+                        == CostCalculator.calculateUniqueAssignmentViolationPenalty(solution, tasks, employees)
+                && breakdown.getDeadlineHours()
+                        == CostCalculator.calculateDeadlineViolationPenalty(solution, tasks, employees)
+                && breakdown.isFeasible() == CostCalculator.isFeasible(solution, tasks, employees)
+                && FeasibilityChecker.isFeasible(solution, problem) == breakdown.isFeasible();
+        if (!ok)
+        {
+            System.out.printf("  mismatch: fused %s legacy %s%n", fused, legacy);
+        }
+        return ok;
+    }
+
+    private static int[] uniformSolution(ProblemInstance problem, SplittableRandom random)
+    {
+        int[] solution = new int[problem.getNumTasks()];
+        for (int t = 0; t < solution.length; t++)
+        {
+            solution[t] = random.nextInt(problem.getNumEmployees());
+        }
+        return solution;
+    }
+
+    private static int[] compatibleSolution(ProblemInstance problem, SplittableRandom random)
+    {
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int[] solution = new int[problem.getNumTasks()];
+        for (int t = 0; t < solution.length; t++)
+        {
+            int count = compatibility.count(t);
+            solution[t] = count == 0
+                    ? random.nextInt(problem.getNumEmployees())
+                    : compatibility.employeeAt(t, random.nextInt(count));
+        }
+        return solution;
+    }
+
+    /**
+     * Gives every task a random compatible employee that still has the hours for it, if any.
+     */
+    private static int[] packedSolution(ProblemInstance problem, SplittableRandom random)
+    {
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int[] remaining = new int[problem.getNumEmployees()];
+        for (int e = 0; e < remaining.length; e++)
+        {
+            remaining[e] = problem.getAvailableHours(e);
+        }
+        int[] solution = compatibleSolution(problem, random);
+        for (int t = 0; t < solution.length; t++)
+        {
+            int count = compatibility.count(t);
+            int offset = count == 0 ? 0 : random.nextInt(count);
+            for (int k = 0; k < count; k++)
+            {
+                int employee = compatibility.employeeAt(t, (offset + k) % count);
+                if (remaining[employee] >= problem.getEstimatedTime(t))
+                {
+                    solution[t] = employee;
+                    break;
+                }
+            }
+            remaining[solution[t]] -= problem.getEstimatedTime(t);
+        }
+        return solution;
+    }
+}
@@ -0,0 +1,85 @@
+package Algorithms;
+
+import Exceptions.LoadDataException;
+import Model.Employee;
+import Model.Task;
+import Utilities.DataGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the bytes {@link GeneticAlg} allocates per generation once warmed up, which
+ * should be none. Generations are bred and scored on the calling thread, so the thread's
+ * allocation counter sees every allocation they make.
+ * Run with: ./build.sh bench Algorithms.GenerationAllocationBench
+ */
+public final class GenerationAllocationBench
+{
+    private static final String RESOURCES_DIR = "out/resources/";
+    private static final String INSTANCE = "size-500";
+    private static final int POPULATION_SIZE = 1_000;
+    private static final int WARM_UP_GENERATIONS = 200;
+    private static final int MEASURED_GENERATIONS = 100;
+    private static final long SEED = 42;
+
+    // Anything under this is put down to the measurement itself rather than the generations
+    private static final long TOLERANCE_BYTES = 1_024;
+
+    private GenerationAllocationBench()
+    {
+    }
+
+    public static void main(String[] args) throws LoadDataException
+    {
+        List<Task> tasks = DataGenerator.loadTasks(RESOURCES_DIR + INSTANCE + "/Tasks.csv");
+        List<Employee> employees = DataGenerator.loadEmployees(RESOURCES_DIR + INSTANCE + "/Employees.csv");
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported())
+        {
+            System.out.println("Thread allocation counters are not supported by this JVM");
+            System.exit(1);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        boolean failed = false;
+        for (boolean steadyState : new boolean[]{false, true})
+        {
+            GeneticAlg ga = new GeneticAlg(tasks, employees, POPULATION_SIZE, 0.8, 0.05,
+                    2, Integer.MAX_VALUE, Integer.MAX_VALUE, false, 0);
+            ga.setSteadyState(steadyState);
+            // A single chunk per batch keeps scoring on this thread
+            ga.setPopulationEvaluator(new PopulationEvaluator(ga.problem, ForkJoinPool.commonPool(), Integer.MAX_VALUE));
+            ga.initialisePopulation(new SplittableRandom(SEED));
+
+            for (int g = 0; g < WARM_UP_GENERATIONS; g++)
+            {
+                ga.nextGeneration(null);
+            }
+
+            long threadId = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int g = 0; g < MEASURED_GENERATIONS; g++)
+            {
+                ga.nextGeneration(null);
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            double perGeneration = (double) allocated / MEASURED_GENERATIONS;
+            System.out.printf("%-12s %,d bytes over %d generations, %,.1f bytes per generation%n",
+                    steadyState ? "steady-state" : "generational", allocated, MEASURED_GENERATIONS, perGeneration);
+            failed |= allocated > TOLERANCE_BYTES;
+        }
+
+        if (failed)
+        {
+            System.out.println("Allocation check FAILED");
+            System.exit(1);
+        }
+        System.out.println("Allocation check passed");
+    }
+}
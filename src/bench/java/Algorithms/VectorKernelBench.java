@@ -0,0 +1,153 @@
+package Algorithms;
+
+import Model.Employee;
+import Model.ProblemInstance;
+import Model.Task;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Parity check and benchmark of the Vector API cost backend against the scalar {@link CostKernel}.
+ * Instances are generated with task and employee counts that are not a multiple of any lane
+ * count, so the scalar tails of both vector loops are exercised, and solutions include
+ * unassigned tasks both inside the vector loop and in the tail. Every total must be bit-identical.
+ * The backend is reached through {@link CostFunction#vector(ProblemInstance)}, so this harness
+ * builds without it; run with: ./build.sh vector bench Algorithms.VectorKernelBench
+ */
+public final class VectorKernelBench
+{
+    private static final int[][] SIZES = {{7, 5}, {101, 11}, {251, 19}, {499, 31}, {1_003, 61}, {10_007, 1_001}, {100_003, 2_003}};
+    private static final int NUM_SKILLS = 12;
+    private static final int PARITY_SOLUTIONS = 500;
+    private static final int TIMED_SOLUTIONS = 64;
+    private static final long TIMED_NANOS = 1_000_000_000L;
+    private static final long SEED = 42;
+
+    private VectorKernelBench()
+    {
+    }
+
+    public static void main(String[] args)
+    {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int failures = 0;
+        for (int[] size : SIZES)
+        {
+            ProblemInstance problem = generate(size[0], size[1], random);
+            CostFunction vector = CostFunction.vector(problem);
+            if (vector == CostFunction.SCALAR)
+            {
+                System.out.println("Vector backend unavailable, run with: ./build.sh vector bench "
+                        + VectorKernelBench.class.getName());
+                System.exit(1);
+            }
+
+            int mismatches = 0;
+            for (int i = 0; i < PARITY_SOLUTIONS; i++)
+            {
+                int[] solution = solution(problem, random);
+                switch (i % 4)
+                {
+                    case 1 -> solution[random.nextInt(solution.length)] = -1;
+                    case 2 -> solution[random.nextInt(solution.length)] = problem.getNumEmployees();
+                    case 3 -> solution[solution.length - 1] = -1;   // in the scalar tail
+                    default -> { }
+                }
+                double expected = CostKernel.evaluate(solution, problem);
+                double actual = vector.evaluate(solution, problem);
+                if (Double.doubleToLongBits(expected) != Double.doubleToLongBits(actual))
+                {
+                    mismatches++;
+                    System.out.printf("  mismatch: scalar %s vector %s%n", expected, actual);
+                }
+            }
+            failures += mismatches;
+
+            int[][] solutions = new int[TIMED_SOLUTIONS][];
+            for (int i = 0; i < TIMED_SOLUTIONS; i++)
+            {
+                solutions[i] = solution(problem, random);
+            }
+            // Warm up both paths before timing either
+            time(CostFunction.SCALAR, problem, solutions);
+            time(vector, problem, solutions);
+            double scalarNanos = time(CostFunction.SCALAR, problem, solutions);
+            double vectorNanos = time(vector, problem, solutions);
+
+            System.out.printf("%7d tasks %5d employees: %d/%d mismatches, scalar %,.0f ns, vector %,.0f ns, speedup %.2fx%n",
+                    size[0], size[1], mismatches, PARITY_SOLUTIONS, scalarNanos, vectorNanos, scalarNanos / vectorNanos);
+        }
+
+        if (failures > 0)
+        {
+            System.out.println("Parity check FAILED");
+            System.exit(1);
+        }
+        System.out.println("Parity check passed");
+    }
+
+    /**
+     * @return The mean time of one evaluation in nanoseconds, repeating the solutions for about a second
+     */
+    private static double time(CostFunction costFunction, ProblemInstance problem, int[][] solutions)
+    {
+        double sink = 0;
+        long evaluations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do
+        {
+            for (int[] solution : solutions)
+            {
+                sink += costFunction.evaluate(solution, problem);
+            }
+            evaluations += solutions.length;
+            elapsed = System.nanoTime() - start;
+        }
+        while (elapsed < TIMED_NANOS);
+
+        // Keeps the evaluations from being optimised away
+        if (sink == -1)
+        {
+            System.out.println(sink);
+        }
+        return (double) elapsed / evaluations;
+    }
+
+    private static ProblemInstance generate(int numTasks, int numEmployees, SplittableRandom random)
+    {
+        List<Task> tasks = new ArrayList<>();
+        for (int t = 0; t < numTasks; t++)
+        {
+            tasks.add(new Task(Integer.toString(t), random.nextInt(1, 10), random.nextInt(1, 10),
+                    random.nextInt(9, 30), "S" + random.nextInt(NUM_SKILLS), t));
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (int e = 0; e < numEmployees; e++)
+        {
+            Set<String> skills = new HashSet<>();
+            int numSkills = random.nextInt(1, NUM_SKILLS / 2);
+            while (skills.size() < numSkills)
+            {
+                skills.add("S" + random.nextInt(NUM_SKILLS));
+            }
+            employees.add(new Employee(Integer.toString(e), random.nextInt(7, 20) * (numTasks / numEmployees + 1),
+                    random.nextInt(1, 10), skills, e));
+        }
+        return ProblemInstance.of(tasks, employees);
+    }
+
+    private static int[] solution(ProblemInstance problem, SplittableRandom random)
+    {
+        int[] solution = new int[problem.getNumTasks()];
+        for (int t = 0; t < solution.length; t++)
+        {
+            solution[t] = random.nextInt(problem.getNumEmployees());
+        }
+        return solution;
+    }
+}
@@ -1,6 +1,7 @@
 package Algorithms;
 
 import Model.Employee;
+import Model.ProblemInstance;
 import Model.Task;
 import Utilities.AlgParameters;
 import Utilities.Observer;
@@ -17,9 +18,12 @@ public abstract class AbstractOptimisationAlgorithm implements Algorithm {
     protected List<Observer> observers = new ArrayList<>();
     protected List<Task> tasks;
     protected List<Employee> employees;
+    protected final ProblemInstance problem;
+    protected PopulationEvaluator populationEvaluator;
 
     protected int[] bestSolution;
     protected double bestCost = Double.MAX_VALUE;
+    protected final CostBreakdown bestBreakdown = new CostBreakdown();
     protected final int maxIterations;
     protected final int reportingFrequency;
     protected final boolean fileOutput;
@@ -31,14 +35,25 @@ public abstract class AbstractOptimisationAlgorithm implements Algorithm {
 
     public AbstractOptimisationAlgorithm(List<Task> tasks, List<Employee> employees,
             int reportingFrequency, boolean fileOutput, int maxIterations, int populationSize, int runId) {
+        this(tasks, employees, ProblemInstance.of(tasks, employees),
+                reportingFrequency, fileOutput, maxIterations, populationSize, runId);
+    }
+
+    /**
+     * Constructor for an algorithm that shares an instance already compiled from the lists.
+     */
+    protected AbstractOptimisationAlgorithm(List<Task> tasks, List<Employee> employees, ProblemInstance problem,
+            int reportingFrequency, boolean fileOutput, int maxIterations, int populationSize, int runId) {
         this.tasks = tasks;
         this.employees = employees;
+        this.problem = problem;
+        this.populationEvaluator = new PopulationEvaluator(problem);
         this.reportingFrequency = reportingFrequency;
         this.fileOutput = fileOutput;
         this.maxIterations = maxIterations;
         this.populationSize = populationSize;
         this.runID = runId;
-        this.performanceLogger = new PerformanceLogger(getAlgorithmName(), tasks, employees, runId);
+        this.performanceLogger = new PerformanceLogger(getAlgorithmName(), runId);
     }
 
     public void setLoggerParameters(AlgParameters parameters)
@@ -62,13 +77,27 @@ public abstract class AbstractOptimisationAlgorithm implements Algorithm {
         }
     }
 
+    /**
+     * Records the penalty breakdown of a new best solution, to be passed to the performance logger.
+     * Only called when the best solution changes, not every iteration.
+     */
+    protected void updateBestBreakdown(int[] newBest) {
+        CostKernel.evaluate(newBest, problem, bestBreakdown);
+    }
+
     /**
      * Reports progress at the current iteration
      */
     protected void reportProgress(int[] currentBest, int iteration) {
-        double cost = CostCalculator.calculateTotalCost(currentBest, tasks, employees);
-        boolean isFeasible = CostCalculator.isFeasible(currentBest, tasks, employees);
+        double cost = CostCalculator.calculateTotalCost(currentBest, problem);
+        boolean isFeasible = FeasibilityChecker.isFeasible(currentBest, problem);
+        reportProgress(cost, isFeasible, iteration);
+    }
 
+    /**
+     * Reports progress at the current iteration from an already scored best solution
+     */
+    protected void reportProgress(double cost, boolean isFeasible, int iteration) {
         StringBuilder sb = new StringBuilder();
         sb.append("Iteration ").append(iteration)
                 .append(": Best Cost = ").append(String.format("%.2f", cost))
@@ -86,8 +115,8 @@ public abstract class AbstractOptimisationAlgorithm implements Algorithm {
      * Reports the final result
      */
     protected void reportFinalResult(int[] bestSolution, int iteration) {
-        double cost = CostCalculator.calculateTotalCost(bestSolution, tasks, employees);
-        boolean isFeasible = CostCalculator.isFeasible(bestSolution, tasks, employees);
+        double cost = CostCalculator.calculateTotalCost(bestSolution, problem);
+        boolean isFeasible = FeasibilityChecker.isFeasible(bestSolution, problem);
 
         String finalResult = !observers.isEmpty()
                 ? observers.getFirst().getFinalSolution(bestSolution, cost, iteration, isFeasible)
@@ -102,6 +131,14 @@ public abstract class AbstractOptimisationAlgorithm implements Algorithm {
         }
     }
 
+    /**
+     * Replace the evaluator used to score whole populations, e.g. to run on a dedicated pool.
+     */
+    public void setPopulationEvaluator(PopulationEvaluator populationEvaluator)
+    {
+        this.populationEvaluator = populationEvaluator;
+    }
+
     public int[] getBestSolution()
     {
         return bestSolution;
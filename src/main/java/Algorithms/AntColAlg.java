@@ -1,11 +1,15 @@
 package Algorithms;
 
+import Model.CompatibilityIndex;
 import Model.Employee;
 import Model.Task;
 import Utilities.Observer;
 import Utilities.PerformanceLogger;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 public class AntColAlg extends AbstractOptimisationAlgorithm {
     // ACO Parameters - (algorithm-specific settings)
@@ -16,8 +20,36 @@ public class AntColAlg extends AbstractOptimisationAlgorithm {
                                         // decay
 
     // Internal State Variables
-    private double[][] pherMatrix; // 2D array storing the pheromone value for each Employee Task pairing; where
-                                   // [i][j] represents pheromone for assigning task i to employee j
+    private final PheromoneMatrix pherMatrix; // Pheromone value for each Employee Task pairing; only compatible
+                                              // pairings are stored, with a tree over each task's row so ants
+                                              // sample in O(log E), when that takes less memory than all pairings
+    private boolean lazyEvaporation; // Decay by shrinking a global scale instead of touching every pairing
+    private final double[] antCosts; // cost of each ant's solution in the current iteration
+    private final double[] antDeposits; // pheromone each ant deposits on every pairing it used
+
+    // MAX-MIN Ant System: only the iteration-best ant deposits, or the global-best ant every
+    // MAX_MIN_GLOBAL_BEST_INTERVAL iterations; pheromone stays within [tauMin, tauMax] and is
+    // reset to tauMax after MAX_MIN_STAGNATION_LIMIT iterations without a new best solution
+    private static final int MAX_MIN_GLOBAL_BEST_INTERVAL = 5;
+    private static final int MAX_MIN_STAGNATION_LIMIT = 50;
+    private static final double MAX_MIN_P_BEST = 0.05; // chance of rebuilding the best solution at convergence
+    private boolean maxMin;
+    private double tauMax;
+    private double tauMin;
+    private double maxMinBestCost = Double.MAX_VALUE; // best cost the bounds were last set from
+    private int stagnantIterations;
+
+    // Ants built by one task, and pheromone rows decayed and deposited on by one
+    // task; every ant chunk draws from its own random stream
+    private static final int ANT_CHUNK_SIZE = 8;
+    private static final int ROW_CHUNK_SIZE = 64;
+
+    // Construction threads and random seed
+    private int threads = 1;
+    private long seed;
+    private boolean seeded;
+    private ForkJoinPool pool;
+    private SplittableRandom[] chunkRandoms;
 
     // Tracking and reporting
     private boolean foundPerfectSolution = false; // If solution with cost = 0 has been found.
@@ -47,7 +79,9 @@ public class AntColAlg extends AbstractOptimisationAlgorithm {
         this.pherDecayRate = pherDecayRate;
         this.initPheromone = initPheromone;
 
-        this.pherMatrix = new double[tasks.size()][employees.size()];
+        this.pherMatrix = PheromoneMatrix.forProblem(this.problem);
+        this.antCosts = new double[populationSize];
+        this.antDeposits = new double[populationSize];
     }
 
     @Override
@@ -56,31 +90,49 @@ public class AntColAlg extends AbstractOptimisationAlgorithm {
         performanceLogger.startTimer();
         // Initialising values stored in pheromone matrix
         initPherMatrix();
+        // Every chunk of ants keeps its own random stream for the whole run
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        this.chunkRandoms = new SplittableRandom[(this.populationSize + ANT_CHUNK_SIZE - 1) / ANT_CHUNK_SIZE];
+        for (int c = 0; c < this.chunkRandoms.length; c++) {
+            this.chunkRandoms[c] = random.split();
+        }
+        this.pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+        // Ants are scored on the construction threads, so the run uses no more than threads threads
+        PopulationEvaluator evaluator = this.populationEvaluator;
+        this.populationEvaluator = evaluator.withPool(this.pool);
         // Creating Matrix to store each ant's solution; [i][j] = z means that ant i has
         // assigned task j to employee z.
         int[][] antMatrix = new int[this.populationSize][this.tasks.size()];
-        generateNextAntPaths(antMatrix, tasks.size(), employees.size(), this.populationSize);
-
-        while (this.iterationCount < this.maxIterations && !foundPerfectSolution) {
 
-            updatePheromones(antMatrix, this.populationSize, employees.size(), tasks.size());
+        try {
             generateNextAntPaths(antMatrix, tasks.size(), employees.size(), this.populationSize);
-            if (this.bestCost == 0.0) {
-                this.foundPerfectSolution = true; // Flag to stop algorithm if a perfect solution has been found
-            }
 
-            // Log metrics for this generation
-            performanceLogger.logIteration(
-                    iterationCount,
-                    bestSolution,
-                    bestCost,
-                    PerformanceLogger.getCurrentMemoryUsageMB());
+            while (this.iterationCount < this.maxIterations && !foundPerfectSolution) {
 
-            if (iterationCount % reportingFrequency == 0) {
-                reportProgress(bestSolution, iterationCount);
-            }
-            this.iterationCount++;
+                updatePheromones(antMatrix, this.populationSize, employees.size(), tasks.size());
+                generateNextAntPaths(antMatrix, tasks.size(), employees.size(), this.populationSize);
+                if (this.bestCost == 0.0) {
+                    this.foundPerfectSolution = true; // Flag to stop algorithm if a perfect solution has been found
+                }
+
+                // Log metrics for this generation
+                performanceLogger.logIteration(
+                        iterationCount,
+                        bestBreakdown,
+                        PerformanceLogger.getCurrentMemoryUsageMB());
 
+                if (iterationCount % reportingFrequency == 0) {
+                    reportProgress(bestSolution, iterationCount);
+                }
+                this.iterationCount++;
+
+            }
+        } finally {
+            this.populationEvaluator = evaluator;
+            if (this.pool != null) {
+                this.pool.shutdown();
+                this.pool = null;
+            }
         }
 
         // Stop timer and save all metrics to CSV files
@@ -104,104 +156,209 @@ public class AntColAlg extends AbstractOptimisationAlgorithm {
      * 
      */
     private void initPherMatrix() {
+        this.maxMinBestCost = Double.MAX_VALUE;
+        this.stagnantIterations = 0;
+        fillPheromones(this.initPheromone);
+    }
+
+    /**
+     * Sets every pairing the ants may choose to the given pheromone and every other pairing to 0.
+     */
+    private void fillPheromones(double pheromone) {
+        CompatibilityIndex compatibility = this.problem.getCompatibility();
         // For every task
         for (int i = 0; i < this.tasks.size(); i++) {
-            boolean capableEmployeeExists = false;
-            Task currTask = this.tasks.get(i);
-            // For every employee
-            for (int j = 0; j < this.employees.size(); j++) {
-                Employee currEmployee = this.employees.get(j);
-
-                // Assign initial pheromone value if skill and difficulty constraints are met
-                if (currEmployee.hasSkill(currTask.getRequiredSkill())
-                        && currEmployee.getSkillLevel() >= currTask.getDifficulty()) {
-                    this.pherMatrix[i][j] = this.initPheromone;
-                    capableEmployeeExists = true;
-                }
-                // If constraints violated assign pair a pheromone of 0 (removing it from
-                // solution space)
-                else {
-                    this.pherMatrix[i][j] = 0.0;
-                }
-
-            }
             // If a task has no feasible employee then all employees considered
-            if (!capableEmployeeExists) {
-                for (int j = 0; j < this.employees.size(); j++) {
-                    this.pherMatrix[i][j] = this.initPheromone;
-                }
+            if (compatibility.count(i) == 0) {
+                this.pherMatrix.fillRow(i, pheromone);
+                this.pherMatrix.build(i);
+                continue;
             }
+            // Pairs that violate the skill or difficulty constraints get a pheromone of 0
+            // (removing them from solution space); compatible pairs get the initial value
+            this.pherMatrix.fillRow(i, 0.0);
+            for (int k = 0; k < compatibility.count(i); k++) {
+                this.pherMatrix.set(i, compatibility.employeeAt(i, k), pheromone);
+            }
+            this.pherMatrix.build(i);
         }
     }
 
+    /**
+     * Tracks the best ant, then decays every pheromone and lays down the deposits of all ants.
+     * Costs were scored after construction. Lazy evaporation is a single scale update; eager
+     * evaporation and the deposits are split by task rows, so each row is written by exactly
+     * one worker and the deposits need no synchronisation.
+     */
     private void updatePheromones(int[][] antMatrix, int populationSize, int numEmployees, int numTasks) {
         int[] ant;
-        decayPheromones();
+        int iterationBest = 0;
         for (int i = 0; i < populationSize; i++) {
             ant = antMatrix[i];
-            double antCost = CostCalculator.calculateTotalCost(ant, this.tasks, this.employees);
-            // System.out.println(antCost);
+            double antCost = this.antCosts[i];
             if (antCost < bestCost) {
                 bestCost = antCost;
                 bestSolution = ant.clone();
+                updateBestBreakdown(bestSolution);
             }
-            /*
-             * CREATE A BEST SOLUTION SO FAR TRACKER
-             * if(antCost == 0.0)
-             * {
-             * this.foundPerfectSolution = true;
-             * }
-             */
-            double pheromone = 1.0 / (5.0 * antCost) + 1.0; // Multiplying by 5 ensures no dividing by a decimal, Adding
-                                                            // 1 ensures no division by zero
-
-            for (int j = 0; j < numTasks; j++) // for each task in ant's solution
-            {
-                int empIdx = ant[j];
-                this.pherMatrix[j][empIdx] += pheromone;
+            if (antCost < this.antCosts[iterationBest]) {
+                iterationBest = i;
+            }
+        }
+        if (this.maxMin) {
+            updateMaxMinPheromones(antMatrix[iterationBest], this.antCosts[iterationBest], numTasks);
+            return;
+        }
+
+        for (int i = 0; i < populationSize; i++) {
+            this.antDeposits[i] = 1.0 / (5.0 * this.antCosts[i]) + 1.0; // Multiplying by 5 ensures no dividing by a
+                                                                        // decimal, Adding 1 ensures no division by zero
+        }
 
+        if (this.lazyEvaporation) {
+            this.pherMatrix.evaporate(1 - this.pherDecayRate);
+        }
+        int stripes = (numTasks + ROW_CHUNK_SIZE - 1) / ROW_CHUNK_SIZE;
+        forEachChunk(stripes, stripe -> {
+            int from = stripe * ROW_CHUNK_SIZE;
+            int to = Math.min(numTasks, from + ROW_CHUNK_SIZE);
+            if (!this.lazyEvaporation) {
+                this.pherMatrix.evaporateRows(from, to, 1 - this.pherDecayRate);
             }
+            depositPheromones(antMatrix, populationSize, from, to);
+        });
+    }
+
+    /**
+     * MAX-MIN Ant System update. A new best solution resets the pheromone bounds,
+     * tauMax = 1 / (rho * (1 + best cost)) and tauMin derived from tauMax so that a converged
+     * colony still rebuilds the best solution with probability MAX_MIN_P_BEST. The first
+     * bounds, and every stagnation, reset the pheromone to tauMax. Otherwise every row
+     * evaporates with the tauMin floor and a single ant deposits on its T pairings, capped at
+     * tauMax: the iteration-best ant, or the global-best ant every MAX_MIN_GLOBAL_BEST_INTERVAL
+     * iterations. Evaporation is always eager, as the floor has to be applied to every pairing.
+     */
+    private void updateMaxMinPheromones(int[] iterationBestAnt, double iterationBestCost, int numTasks) {
+        if (bestCost < this.maxMinBestCost) {
+            boolean first = this.maxMinBestCost == Double.MAX_VALUE;
+            this.maxMinBestCost = bestCost;
+            this.stagnantIterations = 0;
+            setMaxMinBounds(numTasks);
+            if (first) {
+                fillPheromones(this.tauMax);
+                return;
+            }
+        } else if (++this.stagnantIterations >= MAX_MIN_STAGNATION_LIMIT) {
+            this.stagnantIterations = 0;
+            fillPheromones(this.tauMax);
+            return;
         }
+
+        boolean globalBest = this.iterationCount % MAX_MIN_GLOBAL_BEST_INTERVAL == 0;
+        int[] depositor = globalBest ? bestSolution : iterationBestAnt;
+        double pheromone = 1.0 / (1.0 + (globalBest ? bestCost : iterationBestCost));
+
+        int stripes = (numTasks + ROW_CHUNK_SIZE - 1) / ROW_CHUNK_SIZE;
+        forEachChunk(stripes, stripe -> {
+            int from = stripe * ROW_CHUNK_SIZE;
+            int to = Math.min(numTasks, from + ROW_CHUNK_SIZE);
+            this.pherMatrix.evaporateRows(from, to, 1 - this.pherDecayRate, this.tauMin);
+            for (int j = from; j < to; j++) {
+                this.pherMatrix.deposit(j, depositor[j], pheromone, this.tauMax);
+            }
+        });
     }
 
-    private void generateNextAntPaths(int[][] antMatrix, int numTasks, int numEmployees, int populationSize) {
-        double cumulative;
-        double totalPheromone;
-        double choice;
+    /**
+     * Sets tauMax from the best cost and tauMin from tauMax, using the average number of
+     * employees an ant may choose from per task.
+     */
+    private void setMaxMinBounds(int numTasks) {
+        this.tauMax = 1.0 / (this.pherDecayRate * (1.0 + bestCost));
+        double choices = (double) this.pherMatrix.storedPairs() / numTasks;
+        double pDec = Math.pow(MAX_MIN_P_BEST, 1.0 / numTasks);
+        this.tauMin = choices > 1 ? Math.min(this.tauMax, this.tauMax * (1 - pDec) / ((choices - 1) * pDec)) : 0.0;
+    }
 
+    /**
+     * Adds every ant's deposit to the pairings it used for the tasks in [from, to).
+     */
+    private void depositPheromones(int[][] antMatrix, int populationSize, int from, int to) {
         for (int i = 0; i < populationSize; i++) {
-            for (int j = 0; j < numTasks; j++) {
-                cumulative = 0;
-                totalPheromone = sumTaskPheromone(this.pherMatrix[j], numEmployees);
-                choice = Math.random() * totalPheromone;
-
-                for (int e = 0; e < numEmployees; e++) {
-                    cumulative += this.pherMatrix[j][e];
-                    if (choice < cumulative) {
-                        antMatrix[i][j] = e;
-                        e = numEmployees;
-                    }
-                }
+            int[] ant = antMatrix[i];
+            double pheromone = this.antDeposits[i];
+            for (int j = from; j < to; j++) // for each task in the stripe
+            {
+                this.pherMatrix.deposit(j, ant[j], pheromone);
             }
         }
     }
 
-    // This method returns the sum of the pheromones associated with assigning the
-    // task to each employee
-    private double sumTaskPheromone(double[] task, int numEmployees) {
-        double totalPheromone = 0;
-        for (int i = 0; i < numEmployees; i++) {
-            totalPheromone += task[i];
+    /**
+     * Builds and scores every ant. Ants only read the pheromone matrix, so chunks of ants are
+     * built in parallel; each chunk draws from its own random stream, giving the same ants
+     * whichever thread runs a chunk. The colony is then scored in one batch by the population
+     * evaluator, on the same threads.
+     */
+    private void generateNextAntPaths(int[][] antMatrix, int numTasks, int numEmployees, int populationSize) {
+        forEachChunk(this.chunkRandoms.length, chunk -> {
+            SplittableRandom random = this.chunkRandoms[chunk];
+            int from = chunk * ANT_CHUNK_SIZE;
+            int to = Math.min(populationSize, from + ANT_CHUNK_SIZE);
+            for (int i = from; i < to; i++) {
+                buildAnt(antMatrix[i], numTasks, random);
+            }
+        });
+        this.populationEvaluator.evaluate(antMatrix, 0, populationSize, this.antCosts);
+    }
+
+    /**
+     * Assigns every task by roulette wheel over its pheromone row, O(log E) per task for a
+     * sparse matrix and O(E) for a dense one.
+     */
+    private void buildAnt(int[] ant, int numTasks, SplittableRandom random) {
+        for (int j = 0; j < numTasks; j++) {
+            ant[j] = this.pherMatrix.sample(j, random);
         }
+    }
 
-        return totalPheromone;
+    /**
+     * Runs body for chunks 0 to count - 1, on the pool if there is one, otherwise on the
+     * calling thread.
+     */
+    private void forEachChunk(int count, IntConsumer body) {
+        if (this.pool == null || count <= 1) {
+            for (int c = 0; c < count; c++) {
+                body.accept(c);
+            }
+        } else {
+            this.pool.invoke(new ChunkRange(body, 0, count));
+        }
     }
 
-    private void decayPheromones() {
-        for (int i = 0; i < this.tasks.size(); i++) {
-            for (int j = 0; j < this.employees.size(); j++) {
-                this.pherMatrix[i][j] *= (1 - this.pherDecayRate);
+    /**
+     * Splits a range of chunks in half until a single chunk is left.
+     */
+    @SuppressWarnings("serial") // never serialised, only run on a fork-join pool
+    private static final class ChunkRange extends RecursiveAction {
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        ChunkRange(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkRange(body, from, mid), new ChunkRange(body, mid, to));
         }
     }
 
@@ -229,4 +386,84 @@ public class AntColAlg extends AbstractOptimisationAlgorithm {
     public double getPherDecayRate() {
         return pherDecayRate;
     }
+
+    /**
+     * Sets the number of threads ants are built, scored and pheromones updated on. With one
+     * thread (the default) everything runs on the calling thread.
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Switches between eager evaporation (the default), which multiplies every pheromone each
+     * iteration, and lazy evaporation, which only shrinks a global scale the pheromones are
+     * stored against. Both give the same pheromones and the same sampling probabilities.
+     * Has no effect while the MAX-MIN update is on, see {@link #setMaxMin(boolean)}.
+     */
+    public void setLazyEvaporation(boolean lazyEvaporation) {
+        this.lazyEvaporation = lazyEvaporation;
+    }
+
+    public boolean isLazyEvaporation() {
+        return lazyEvaporation;
+    }
+
+    /**
+     * Switches between the original update, where every ant deposits (the default), and the
+     * MAX-MIN Ant System, where a single best ant deposits and pheromone is kept within
+     * bounds. The MAX-MIN update takes precedence over {@link #setLazyEvaporation(boolean)}:
+     * it always evaporates eagerly, as its floor has to be applied to every pairing.
+     * Its upper bound is 1 / (decay rate * (1 + best cost)), so it needs a positive decay rate.
+     *
+     * @throws IllegalArgumentException If switched on with a decay rate that is not positive
+     */
+    public void setMaxMin(boolean maxMin) {
+        if (maxMin && !(this.pherDecayRate > 0)) {
+            throw new IllegalArgumentException(
+                    "MAX-MIN Ant System needs a positive pheromone decay rate: " + this.pherDecayRate);
+        }
+        this.maxMin = maxMin;
+    }
+
+    public boolean isMaxMin() {
+        return maxMin;
+    }
+
+    /**
+     * @return True if only the compatible Employee Task pairings have pheromone stored
+     */
+    public boolean isSparsePheromoneStorage() {
+        return pherMatrix.isSparse();
+    }
+
+    /**
+     * @return The current pheromone for assigning the task to the employee
+     */
+    public double getPheromone(int task, int employee) {
+        return pherMatrix.get(task, employee);
+    }
+
+    /**
+     * Fixes the random seed so that runs can be reproduced. Unseeded runs draw a fresh seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.seeded = true;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package Algorithms;
+
+/**
+ * Per-constraint penalties and violation counts of one evaluated solution.
+ * Filled in a single pass by {@link CostKernel#evaluate(int[], Model.ProblemInstance, CostBreakdown)}
+ * and meant to be reused between evaluations, so producing one allocates nothing.
+ */
+public final class CostBreakdown
+{
+    private double totalCost;
+
+    // Penalties as used in the cost function
+    private int overloadHours;
+    private int skillMismatches;
+    private int skillLevelViolations;
+    private int unassignedTasks;
+    private int deadlineHours;
+
+    // Violation counts that are not already penalties
+    private int overloadedEmployees;
+    private int lateTasks;
+
+    /**
+     * Sets every value; called by the cost kernel.
+     */
+    void set(double totalCost, int overloadHours, int skillMismatches, int skillLevelViolations,
+             int unassignedTasks, int deadlineHours, int overloadedEmployees, int lateTasks)
+    {
+        this.totalCost = totalCost;
+        this.overloadHours = overloadHours;
+        this.skillMismatches = skillMismatches;
+        this.skillLevelViolations = skillLevelViolations;
+        this.unassignedTasks = unassignedTasks;
+        this.deadlineHours = deadlineHours;
+        this.overloadedEmployees = overloadedEmployees;
+        this.lateTasks = lateTasks;
+    }
+
+    /**
+     * Copies every value from another breakdown.
+     */
+    public void copyFrom(CostBreakdown other)
+    {
+        set(other.totalCost, other.overloadHours, other.skillMismatches, other.skillLevelViolations,
+                other.unassignedTasks, other.deadlineHours, other.overloadedEmployees, other.lateTasks);
+    }
+
+    public double getTotalCost()
+    {
+        return totalCost;
+    }
+
+    /**
+     * @return The total hours employees are overworked
+     */
+    public int getOverloadHours()
+    {
+        return overloadHours;
+    }
+
+    /**
+     * @return The number of employees with more hours than they have available
+     */
+    public int getOverloadedEmployees()
+    {
+        return overloadedEmployees;
+    }
+
+    public int getSkillMismatches()
+    {
+        return skillMismatches;
+    }
+
+    public int getSkillLevelViolations()
+    {
+        return skillLevelViolations;
+    }
+
+    public int getUnassignedTasks()
+    {
+        return unassignedTasks;
+    }
+
+    /**
+     * @return The total hours tasks overshoot their deadline
+     */
+    public int getDeadlineHours()
+    {
+        return deadlineHours;
+    }
+
+    /**
+     * @return The number of tasks that finish after their deadline
+     */
+    public int getLateTasks()
+    {
+        return lateTasks;
+    }
+
+    /**
+     * @return The number of constraint violations as reported in the performance logs
+     */
+    public int getTotalConstraintViolations()
+    {
+        return skillMismatches + overloadedEmployees + skillLevelViolations + lateTasks;
+    }
+
+    /**
+     * @return True if no hard constraint is violated
+     */
+    public boolean isFeasible()
+    {
+        return overloadHours == 0 && skillMismatches == 0 && skillLevelViolations == 0 && unassignedTasks == 0;
+    }
+}
@@ -1,6 +1,7 @@
 package Algorithms;
 
 import Model.Employee;
+import Model.ProblemInstance;
 import Model.Task;
 
 import java.util.HashMap;
@@ -43,6 +44,17 @@ public class CostCalculator
         double skillLvlViolationPenalty = calculateSkillLevelPenalty(solution, tasks, employees);
         double uniqueAssignmentViolationPenalty = calculateUniqueAssignmentViolationPenalty(solution, tasks, employees);
 
+        return weightedTotal(overloadPenalty, skillMismatchPenalty, skillLvlViolationPenalty,
+                uniqueAssignmentViolationPenalty, deadlineViolationPenalty);
+    }
+
+    /**
+     * Combines the individual penalties into the weighted total cost.
+     * Shared by every evaluator so that they all produce bit-identical totals.
+     */
+    static double weightedTotal(double overloadPenalty, double skillMismatchPenalty, double skillLvlViolationPenalty,
+                                double uniqueAssignmentViolationPenalty, double deadlineViolationPenalty)
+    {
         return (
                 OVERLOAD_WEIGHT * overloadPenalty +
                         SKILL_MISMATCH_WEIGHT * skillMismatchPenalty +
@@ -170,6 +182,7 @@ public class CostCalculator
     /**
      * Calculates the deadline violation penalty.
      * The number of total hours tasks overshoot their deadline in a solution
+     * Kept as the reference for the compiled evaluators, see {@link CostKernel}
      *
      * @param solution  The Solution to evaluate
      * @param tasks     The list of all tasks
@@ -245,7 +258,9 @@ public class CostCalculator
     }
 
     /**
-     * Checks if all hard constraints are satisfied
+     * Checks if all hard constraints are satisfied, from the list based penalties.
+     * Deadlines are a soft constraint and are not checked.
+     * Kept as the reference for {@link FeasibilityChecker}
      * @param solution   The Solution to evaluate
      * @param tasks      The list of all tasks
      * @param employees  The list of all employees
@@ -254,7 +269,179 @@ public class CostCalculator
 
     public static boolean isFeasible(int[] solution, List<Task> tasks, List<Employee> employees)
     {
-        return  (calculateTotalCost(solution, tasks, employees) -
-                calculateDeadlineViolationPenalty(solution, tasks, employees) == 0);
+        return calculateUniqueAssignmentViolationPenalty(solution, tasks, employees) == 0
+                && calculateSkillMismatchPenalty(solution, tasks, employees) == 0
+                && calculateSkillLevelPenalty(solution, tasks, employees) == 0
+                && calculateOverloadPenalty(solution, tasks, employees) == 0;
+    }
+
+    /**
+     * Calculates the total cost of a solution against a compiled problem instance.
+     * Evaluated by the single pass {@link CostKernel}; returns the same total as
+     * {@link #calculateTotalCost(int[], List, List)}.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The total cost of the solution
+     */
+    public static double calculateTotalCost(int[] solution, ProblemInstance problem)
+    {
+        return CostKernel.evaluate(solution, problem);
+    }
+
+    /**
+     * Calculate the unique assignment penalty
+     * Counts the tasks that are not assigned to a valid employee
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The number of violations
+     */
+    public static double calculateUniqueAssignmentViolationPenalty(int[] solution, ProblemInstance problem)
+    {
+        int violationCount = 0;
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            if (!problem.isAssigned(solution[t]))
+            {
+                violationCount++;
+            }
+        }
+        return violationCount;
+    }
+
+    /**
+     * Calculates the overload penalty against a compiled problem instance.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The number of hours in total that an employees are overworked.
+     */
+    public static double calculateOverloadPenalty(int[] solution, ProblemInstance problem)
+    {
+        int[] workload = calculateEmployeeWorkloads(solution, problem);
+        double totalPenalty = 0;
+
+        for (int e = 0; e < problem.getNumEmployees(); e++)
+        {
+            totalPenalty += Math.max(0, workload[e] - problem.getAvailableHours(e));
+        }
+
+        return totalPenalty;
+    }
+
+    /**
+     * Calculates the skill mismatch penalty against a compiled problem instance.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The skill mismatch penalty
+     */
+    public static double calculateSkillMismatchPenalty(int[] solution, ProblemInstance problem)
+    {
+        int mismatchCount = 0;
+
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            int employeeIdx = solution[t];
+            if (problem.isAssigned(employeeIdx) && !problem.hasSkill(t, employeeIdx))
+            {
+                mismatchCount++;
+            }
+        }
+        return mismatchCount;
+    }
+
+    /**
+     * Calculates difficulty level violation penalty against a compiled problem instance.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The difficulty violation penalty
+     */
+    public static double calculateSkillLevelPenalty(int[] solution, ProblemInstance problem)
+    {
+        int skillLvlViolationCount = 0;
+
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            int employeeIdx = solution[t];
+            if (problem.isAssigned(employeeIdx) && problem.getDifficulty(t) > problem.getSkillLevel(employeeIdx))
+            {
+                skillLvlViolationCount++;
+            }
+        }
+        return skillLvlViolationCount;
+    }
+
+    /**
+     * Calculates the deadline violation penalty against a compiled problem instance.
+     * Tasks are processed in the precomputed deadline order of the instance, so this is a
+     * single linear scan over a reusable per-employee running time buffer; the order matches
+     * the queue of {@link #calculateDeadlineViolationPenalty(int[], List, List)}, ties included.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The deadline violation penalty
+     */
+    public static double calculateDeadlineViolationPenalty(int[] solution, ProblemInstance problem)
+    {
+        int violationHrs = 0;
+
+        // For each employee, track their current workload time
+        int[] employeeWorkloadTimes = CostKernel.workloadScratch(problem.getNumEmployees());
+
+        //Tasks are considered to be completed in ascending order of estimated completion time
+        for (int rank = 0; rank < problem.getNumTasks(); rank++)
+        {
+            int task = problem.getDeadlineOrder(rank);
+            int employeeIdx = solution[task];
+            if (problem.isAssigned(employeeIdx))
+            {
+                employeeWorkloadTimes[employeeIdx] += problem.getEstimatedTime(task);
+
+                if (employeeWorkloadTimes[employeeIdx] > problem.getDeadline(task))
+                {
+                    violationHrs += (employeeWorkloadTimes[employeeIdx] - problem.getDeadline(task));
+                }
+            }
+        }
+        return violationHrs;
+    }
+
+    /**
+     * Calculates the total workload assigned to every employee in one pass.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The workload in hours, indexed by employee
+     */
+    public static int[] calculateEmployeeWorkloads(int[] solution, ProblemInstance problem)
+    {
+        int[] workload = new int[problem.getNumEmployees()];
+
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            int employeeIdx = solution[t];
+            if (problem.isAssigned(employeeIdx))
+            {
+                workload[employeeIdx] += problem.getEstimatedTime(t);
+            }
+        }
+
+        return workload;
+    }
+
+    /**
+     * Checks if all hard constraints are satisfied against a compiled problem instance,
+     * see {@link FeasibilityChecker}.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return True if feasible, false if else.
+     */
+    public static boolean isFeasible(int[] solution, ProblemInstance problem)
+    {
+        return FeasibilityChecker.isFeasible(solution, problem);
     }
-}
\ No newline at end of file
+}
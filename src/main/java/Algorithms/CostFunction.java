@@ -0,0 +1,68 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+/**
+ * Scores a complete solution, with the same result as
+ * {@link CostCalculator#calculateTotalCost(int[], ProblemInstance)}.
+ * Implemented by the scalar {@link CostKernel} and, for large instances, by an optional
+ * backend built on the incubating Vector API. That backend is only compiled into builds
+ * made with ./build.sh vector.
+ */
+@FunctionalInterface
+public interface CostFunction
+{
+    // Below this the vector loops are mostly scalar tail and gain nothing over the scalar kernel
+    int VECTOR_MIN_TASKS = 100;
+
+    CostFunction SCALAR = (solution, problem) -> CostKernel.evaluate(solution, problem);
+
+    /**
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The total cost of the solution
+     */
+    double evaluate(int[] solution, ProblemInstance problem);
+
+    /**
+     * Picks the evaluation backend for an instance.
+     * The vector backend is used for instances with at least {@link #VECTOR_MIN_TASKS} tasks
+     * when the jdk.incubator.vector module is present; otherwise the scalar kernel is used.
+     *
+     * @param problem The compiled problem instance
+     * @return The cost function to use for the instance
+     */
+    static CostFunction forProblem(ProblemInstance problem)
+    {
+        if (problem.getNumTasks() < VECTOR_MIN_TASKS)
+        {
+            return SCALAR;
+        }
+        return vector(problem);
+    }
+
+    /**
+     * Returns the vector backend for an instance, or the scalar kernel if the backend was not
+     * built, the jdk.incubator.vector module is unavailable or the instance is not supported.
+     *
+     * @param problem The compiled problem instance
+     * @return The cost function to use for the instance
+     */
+    static CostFunction vector(ProblemInstance problem)
+    {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+        {
+            return SCALAR;
+        }
+        try
+        {
+            // Loaded reflectively so this interface never links against the incubator module
+            Class<?> backend = Class.forName("Algorithms.VectorCostKernel");
+            return (CostFunction) backend.getMethod("create", ProblemInstance.class).invoke(null, problem);
+        }
+        catch (ReflectiveOperationException | LinkageError e)
+        {
+            return SCALAR;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+import java.util.Arrays;
+
+/**
+ * Fused cost evaluator.
+ * Computes the overload, skill mismatch, skill level, unique assignment and deadline
+ * penalties of a solution in a single sweep over the tasks followed by a single sweep
+ * over the employees, giving exactly the same total as the five separate passes in
+ * {@link CostCalculator#calculateTotalCost(int[], java.util.List, java.util.List)}.
+ */
+public final class CostKernel
+{
+    // Per-thread workload buffer, reused between evaluations
+    private static final ThreadLocal<int[]> WORKLOAD_SCRATCH = ThreadLocal.withInitial(() -> new int[0]);
+
+    private CostKernel()
+    {
+    }
+
+    /**
+     * Calculates the total cost of a solution.
+     *
+     * @param solution The Solution to evaluate
+     * @param problem  The compiled problem instance
+     * @return The total cost of the solution
+     */
+    public static double evaluate(int[] solution, ProblemInstance problem)
+    {
+        return evaluate(solution, problem, (CostBreakdown) null);
+    }
+
+    /**
+     * Calculates the total cost of a solution and records the individual penalties.
+     *
+     * @param solution  The Solution to evaluate
+     * @param problem   The compiled problem instance
+     * @param breakdown Receives the penalties and violation counts, may be null
+     * @return The total cost of the solution
+     */
+    public static double evaluate(int[] solution, ProblemInstance problem, CostBreakdown breakdown)
+    {
+        int numEmployees = problem.getNumEmployees();
+        int[] workload = workloadScratch(numEmployees);
+
+        int skillMismatchCount = 0;
+        int skillLvlViolationCount = 0;
+        int unassignedCount = 0;
+        int deadlineViolationHrs = 0;
+        int lateTaskCount = 0;
+
+        // Tasks are visited in deadline order, so the running workload of each employee is
+        // the completion time of the current task; the other penalties do not depend on order
+        for (int rank = 0; rank < problem.getNumTasks(); rank++)
+        {
+            int task = problem.getDeadlineOrder(rank);
+            int employeeIdx = solution[task];
+            if (!problem.isAssigned(employeeIdx))
+            {
+                unassignedCount++;
+                continue;
+            }
+
+            if (!problem.hasSkill(task, employeeIdx))
+            {
+                skillMismatchCount++;
+            }
+            if (problem.getDifficulty(task) > problem.getSkillLevel(employeeIdx))
+            {
+                skillLvlViolationCount++;
+            }
+
+            int completionTime = workload[employeeIdx] + problem.getEstimatedTime(task);
+            workload[employeeIdx] = completionTime;
+            if (completionTime > problem.getDeadline(task))
+            {
+                deadlineViolationHrs += completionTime - problem.getDeadline(task);
+                lateTaskCount++;
+            }
+        }
+
+        int overloadHrs = 0;
+        int overloadedCount = 0;
+        for (int e = 0; e < numEmployees; e++)
+        {
+            int overload = workload[e] - problem.getAvailableHours(e);
+            if (overload > 0)
+            {
+                overloadHrs += overload;
+                overloadedCount++;
+            }
+        }
+
+        double total = CostCalculator.weightedTotal(overloadHrs, skillMismatchCount, skillLvlViolationCount,
+                unassignedCount, deadlineViolationHrs);
+        if (breakdown != null)
+        {
+            breakdown.set(total, overloadHrs, skillMismatchCount, skillLvlViolationCount, unassignedCount,
+                    deadlineViolationHrs, overloadedCount, lateTaskCount);
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the total cost of a solution and attributes its penalties to tasks: every
+     * task is flagged with the constraints it violates, an overloaded flag marking tasks
+     * held by an employee with more hours than they have available. Costs a second sweep
+     * over the tasks on top of {@link #evaluate(int[], ProblemInstance)}.
+     *
+     * @param solution   The Solution to evaluate
+     * @param problem    The compiled problem instance
+     * @param violations Receives the flags of every task and the employee workloads
+     * @return The total cost of the solution
+     */
+    public static double evaluate(int[] solution, ProblemInstance problem, TaskViolations violations)
+    {
+        int numEmployees = problem.getNumEmployees();
+        byte[] flags = violations.flags();
+        int[] workload = violations.workload();
+        Arrays.fill(workload, 0, numEmployees, 0);
+
+        int skillMismatchCount = 0;
+        int skillLvlViolationCount = 0;
+        int unassignedCount = 0;
+        int deadlineViolationHrs = 0;
+
+        // Same sweep as evaluate, recording the flags each task earns on the way
+        for (int rank = 0; rank < problem.getNumTasks(); rank++)
+        {
+            int task = problem.getDeadlineOrder(rank);
+            int employeeIdx = solution[task];
+            if (!problem.isAssigned(employeeIdx))
+            {
+                unassignedCount++;
+                flags[task] = TaskViolations.UNASSIGNED;
+                continue;
+            }
+
+            int taskFlags = 0;
+            if (!problem.hasSkill(task, employeeIdx))
+            {
+                skillMismatchCount++;
+                taskFlags |= TaskViolations.SKILL_MISMATCH;
+            }
+            if (problem.getDifficulty(task) > problem.getSkillLevel(employeeIdx))
+            {
+                skillLvlViolationCount++;
+                taskFlags |= TaskViolations.SKILL_LEVEL;
+            }
+
+            int completionTime = workload[employeeIdx] + problem.getEstimatedTime(task);
+            workload[employeeIdx] = completionTime;
+            if (completionTime > problem.getDeadline(task))
+            {
+                deadlineViolationHrs += completionTime - problem.getDeadline(task);
+                taskFlags |= TaskViolations.LATE;
+            }
+            flags[task] = (byte) taskFlags;
+        }
+
+        int overloadHrs = 0;
+        for (int e = 0; e < numEmployees; e++)
+        {
+            overloadHrs += Math.max(0, workload[e] - problem.getAvailableHours(e));
+        }
+
+        // Overload is only known once every workload is; flag and list the tasks in deadline order
+        int[] violating = violations.violating();
+        int violatingCount = 0;
+        for (int rank = 0; rank < problem.getNumTasks(); rank++)
+        {
+            int task = problem.getDeadlineOrder(rank);
+            int employeeIdx = solution[task];
+            if (problem.isAssigned(employeeIdx) && workload[employeeIdx] > problem.getAvailableHours(employeeIdx))
+            {
+                flags[task] |= TaskViolations.OVERLOADED;
+            }
+            if (flags[task] != 0)
+            {
+                violating[violatingCount++] = task;
+            }
+        }
+        violations.setViolatingCount(violatingCount);
+
+        return CostCalculator.weightedTotal(overloadHrs, skillMismatchCount, skillLvlViolationCount,
+                unassignedCount, deadlineViolationHrs);
+    }
+
+    /**
+     * Returns this thread's workload buffer, cleared and at least the requested size.
+     */
+    static int[] workloadScratch(int numEmployees)
+    {
+        int[] workload = WORKLOAD_SCRATCH.get();
+        if (workload.length < numEmployees)
+        {
+            workload = new int[numEmployees];
+            WORKLOAD_SCRATCH.set(workload);
+        }
+        else
+        {
+            Arrays.fill(workload, 0, numEmployees, 0);
+        }
+        return workload;
+    }
+}
@@ -0,0 +1,328 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+import java.util.Arrays;
+
+/**
+ * Incremental evaluation state for a single solution.
+ * Tracks per-employee workload and penalties so the cost of reassigning one task can be
+ * answered without re-evaluating the whole solution. Overload, skill and assignment terms
+ * are updated in constant time; the deadline term only revisits the tasks of the two
+ * employees involved in the move. Totals always match {@link CostKernel#evaluate}.
+ */
+public final class DeltaEvaluator
+{
+    private final ProblemInstance problem;
+
+    // Per-employee state
+    private final int[] workload;
+    private final int[] deadlinePenalty;
+    private final int[] head;   // first task of each employee in deadline order, -1 if none
+    private final int[] tail;   // only used while loading
+
+    // Per-task links forming each employee's task list in deadline order
+    private final int[] next;
+    private final int[] prev;
+
+    private int[] solution;
+
+    private int overloadHrs;
+    private int skillMismatchCount;
+    private int skillLvlViolationCount;
+    private int unassignedCount;
+    private int deadlineViolationHrs;
+
+    /**
+     * @param problem The compiled problem instance
+     */
+    public DeltaEvaluator(ProblemInstance problem)
+    {
+        this.problem = problem;
+        int numEmployees = problem.getNumEmployees();
+        int numTasks = problem.getNumTasks();
+        this.workload = new int[numEmployees];
+        this.deadlinePenalty = new int[numEmployees];
+        this.head = new int[numEmployees];
+        this.tail = new int[numEmployees];
+        this.next = new int[numTasks];
+        this.prev = new int[numTasks];
+    }
+
+    /**
+     * Binds the evaluator to a solution and rebuilds all tracked state.
+     * The array is not copied; {@link #apply(int, int)} writes moves back into it.
+     *
+     * @param solution The Solution to track
+     */
+    public void load(int[] solution)
+    {
+        this.solution = solution;
+        Arrays.fill(workload, 0);
+        Arrays.fill(deadlinePenalty, 0);
+        Arrays.fill(head, -1);
+        Arrays.fill(tail, -1);
+        overloadHrs = 0;
+        skillMismatchCount = 0;
+        skillLvlViolationCount = 0;
+        unassignedCount = 0;
+        deadlineViolationHrs = 0;
+
+        for (int rank = 0; rank < problem.getNumTasks(); rank++)
+        {
+            int task = problem.getDeadlineOrder(rank);
+            int employee = solution[task];
+            if (!problem.isAssigned(employee))
+            {
+                unassignedCount++;
+                continue;
+            }
+            skillMismatchCount += skillMismatch(task, employee);
+            skillLvlViolationCount += skillLvlViolation(task, employee);
+
+            // Append to the employee's list; tasks arrive in deadline order
+            prev[task] = tail[employee];
+            next[task] = -1;
+            if (tail[employee] == -1)
+            {
+                head[employee] = task;
+            }
+            else
+            {
+                next[tail[employee]] = task;
+            }
+            tail[employee] = task;
+
+            workload[employee] += problem.getEstimatedTime(task);
+            if (workload[employee] > problem.getDeadline(task))
+            {
+                deadlinePenalty[employee] += workload[employee] - problem.getDeadline(task);
+            }
+        }
+
+        for (int e = 0; e < problem.getNumEmployees(); e++)
+        {
+            overloadHrs += overload(e, workload[e]);
+            deadlineViolationHrs += deadlinePenalty[e];
+        }
+    }
+
+    /**
+     * @return The total cost of the tracked solution
+     */
+    public double getCost()
+    {
+        return CostCalculator.weightedTotal(overloadHrs, skillMismatchCount, skillLvlViolationCount,
+                unassignedCount, deadlineViolationHrs);
+    }
+
+    /**
+     * Calculates the total cost the solution would have if the task moved to the employee.
+     *
+     * @param task     The task to reassign
+     * @param employee The destination employee
+     * @return The total cost after the move
+     */
+    public double costAfter(int task, int employee)
+    {
+        int from = solution[task];
+        if (from == employee)
+        {
+            return getCost();
+        }
+        int time = problem.getEstimatedTime(task);
+
+        int newOverload = overloadHrs;
+        int newMismatch = skillMismatchCount + skillMismatch(task, employee);
+        int newSkillLvl = skillLvlViolationCount + skillLvlViolation(task, employee);
+        int newUnassigned = unassignedCount;
+        int newDeadline = deadlineViolationHrs;
+
+        if (problem.isAssigned(from))
+        {
+            newOverload += overload(from, workload[from] - time) - overload(from, workload[from]);
+            newMismatch -= skillMismatch(task, from);
+            newSkillLvl -= skillLvlViolation(task, from);
+            newDeadline += deadlinePenaltyWithout(from, task) - deadlinePenalty[from];
+        }
+        else
+        {
+            newUnassigned--;
+        }
+
+        newOverload += overload(employee, workload[employee] + time) - overload(employee, workload[employee]);
+        newDeadline += deadlinePenaltyWith(employee, task) - deadlinePenalty[employee];
+
+        return CostCalculator.weightedTotal(newOverload, newMismatch, newSkillLvl, newUnassigned, newDeadline);
+    }
+
+    /**
+     * @return The change in total cost if the task moved to the employee
+     */
+    public double delta(int task, int employee)
+    {
+        return costAfter(task, employee) - getCost();
+    }
+
+    /**
+     * Commits a move, updating the tracked state and the bound solution.
+     *
+     * @param task     The task to reassign
+     * @param employee The destination employee
+     */
+    public void apply(int task, int employee)
+    {
+        int from = solution[task];
+        if (from == employee)
+        {
+            return;
+        }
+        int time = problem.getEstimatedTime(task);
+
+        if (problem.isAssigned(from))
+        {
+            overloadHrs += overload(from, workload[from] - time) - overload(from, workload[from]);
+            skillMismatchCount -= skillMismatch(task, from);
+            skillLvlViolationCount -= skillLvlViolation(task, from);
+            workload[from] -= time;
+            unlink(from, task);
+            int penalty = deadlinePenaltyWithout(from, -1);
+            deadlineViolationHrs += penalty - deadlinePenalty[from];
+            deadlinePenalty[from] = penalty;
+        }
+        else
+        {
+            unassignedCount--;
+        }
+
+        overloadHrs += overload(employee, workload[employee] + time) - overload(employee, workload[employee]);
+        skillMismatchCount += skillMismatch(task, employee);
+        skillLvlViolationCount += skillLvlViolation(task, employee);
+        workload[employee] += time;
+        link(employee, task);
+        int penalty = deadlinePenaltyWithout(employee, -1);
+        deadlineViolationHrs += penalty - deadlinePenalty[employee];
+        deadlinePenalty[employee] = penalty;
+
+        solution[task] = employee;
+    }
+
+    /**
+     * @return The hours currently assigned to the employee
+     */
+    public int getWorkload(int employee)
+    {
+        return workload[employee];
+    }
+
+    /**
+     * @return The tracked solution
+     */
+    public int[] getSolution()
+    {
+        return solution;
+    }
+
+    private int overload(int employee, int hours)
+    {
+        return Math.max(0, hours - problem.getAvailableHours(employee));
+    }
+
+    private int skillMismatch(int task, int employee)
+    {
+        return problem.hasSkill(task, employee) ? 0 : 1;
+    }
+
+    private int skillLvlViolation(int task, int employee)
+    {
+        return problem.getDifficulty(task) > problem.getSkillLevel(employee) ? 1 : 0;
+    }
+
+    /**
+     * Deadline penalty of the employee's task list, skipping the given task (-1 to skip none).
+     */
+    private int deadlinePenaltyWithout(int employee, int skipTask)
+    {
+        int time = 0;
+        int penalty = 0;
+        for (int t = head[employee]; t != -1; t = next[t])
+        {
+            if (t != skipTask)
+            {
+                time += problem.getEstimatedTime(t);
+                penalty += Math.max(0, time - problem.getDeadline(t));
+            }
+        }
+        return penalty;
+    }
+
+    /**
+     * Deadline penalty of the employee's task list with the given task inserted at its rank.
+     */
+    private int deadlinePenaltyWith(int employee, int task)
+    {
+        int rank = problem.getDeadlineRank(task);
+        int time = 0;
+        int penalty = 0;
+        boolean inserted = false;
+        for (int t = head[employee]; t != -1; t = next[t])
+        {
+            if (!inserted && problem.getDeadlineRank(t) > rank)
+            {
+                time += problem.getEstimatedTime(task);
+                penalty += Math.max(0, time - problem.getDeadline(task));
+                inserted = true;
+            }
+            time += problem.getEstimatedTime(t);
+            penalty += Math.max(0, time - problem.getDeadline(t));
+        }
+        if (!inserted)
+        {
+            time += problem.getEstimatedTime(task);
+            penalty += Math.max(0, time - problem.getDeadline(task));
+        }
+        return penalty;
+    }
+
+    private void unlink(int employee, int task)
+    {
+        if (prev[task] == -1)
+        {
+            head[employee] = next[task];
+        }
+        else
+        {
+            next[prev[task]] = next[task];
+        }
+        if (next[task] != -1)
+        {
+            prev[next[task]] = prev[task];
+        }
+    }
+
+    private void link(int employee, int task)
+    {
+        int rank = problem.getDeadlineRank(task);
+        int before = -1;
+        int after = head[employee];
+        while (after != -1 && problem.getDeadlineRank(after) < rank)
+        {
+            before = after;
+            after = next[after];
+        }
+        prev[task] = before;
+        next[task] = after;
+        if (before == -1)
+        {
+            head[employee] = task;
+        }
+        else
+        {
+            next[before] = task;
+        }
+        if (after != -1)
+        {
+            prev[after] = task;
+        }
+    }
+}
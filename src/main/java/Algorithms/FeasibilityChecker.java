@@ -0,0 +1,46 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+/**
+ * Answers whether a solution satisfies every hard constraint.
+ * The hard constraints are: every task is assigned, the assigned employee has the required
+ * skill and skill level, and no employee is given more hours than they have available.
+ * The check stops at the first violation and never evaluates deadlines, so it is cheap
+ * enough to be used as a filter before a full cost evaluation.
+ */
+public final class FeasibilityChecker
+{
+    private FeasibilityChecker()
+    {
+    }
+
+    /**
+     * Checks if all hard constraints are satisfied.
+     *
+     * @param solution The Solution to check
+     * @param problem  The compiled problem instance
+     * @return True if feasible, false if else.
+     */
+    public static boolean isFeasible(int[] solution, ProblemInstance problem)
+    {
+        int[] workload = CostKernel.workloadScratch(problem.getNumEmployees());
+
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            int employeeIdx = solution[t];
+            if (!problem.isAssigned(employeeIdx) || !problem.isCompatible(t, employeeIdx))
+            {
+                return false;
+            }
+
+            // Workload only grows, so an employee is overloaded as soon as it passes their hours
+            workload[employeeIdx] += problem.getEstimatedTime(t);
+            if (workload[employeeIdx] > problem.getAvailableHours(employeeIdx))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package Algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Multiset of {@link SolutionFingerprint} values, used to keep clones out of a population.
+ * Counts how many solutions share each fingerprint, so the set keeps mirroring a population
+ * that still holds clones, such as one whose clones could not be made unique.
+ * Keys are stored in a primitive open addressing table with linear probing, sized for a
+ * fixed number of distinct keys and kept at most half full. Not thread safe.
+ */
+public final class FingerprintSet
+{
+    private final long[] keys;
+    private final int[] counts;       // occurrences of each key, 0 for an empty slot
+    private final int mask;
+    private final int capacity;
+    private int size;
+
+    /**
+     * @param capacity The maximum number of distinct fingerprints held at once
+     */
+    public FingerprintSet(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+        this.keys = new long[tableSize];
+        this.counts = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds one occurrence of a fingerprint.
+     *
+     * @param fingerprint The fingerprint to add
+     * @return True if the fingerprint was not already in the set
+     */
+    public boolean add(long fingerprint)
+    {
+        int pos = hash(fingerprint);
+        while (counts[pos] != 0)
+        {
+            if (keys[pos] == fingerprint)
+            {
+                counts[pos]++;
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        if (size == capacity)
+        {
+            throw new IllegalStateException("Fingerprint set is full: " + capacity);
+        }
+        keys[pos] = fingerprint;
+        counts[pos] = 1;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return True if the fingerprint is in the set
+     */
+    public boolean contains(long fingerprint)
+    {
+        return find(fingerprint) != -1;
+    }
+
+    /**
+     * @return The number of occurrences of the fingerprint, 0 if it is not in the set
+     */
+    public int count(long fingerprint)
+    {
+        int pos = find(fingerprint);
+        return pos == -1 ? 0 : counts[pos];
+    }
+
+    /**
+     * Removes one occurrence of a fingerprint. The last occurrence is removed using backward
+     * shift deletion, so no tombstones are needed.
+     *
+     * @param fingerprint The fingerprint to remove
+     * @return True if the fingerprint was in the set
+     */
+    public boolean remove(long fingerprint)
+    {
+        int gap = find(fingerprint);
+        if (gap == -1)
+        {
+            return false;
+        }
+        if (--counts[gap] > 0)
+        {
+            return true;
+        }
+
+        int pos = (gap + 1) & mask;
+        while (counts[pos] != 0)
+        {
+            int home = hash(keys[pos]);
+            // Move the key back if its home slot does not lie in (gap, pos]
+            if (((pos - home) & mask) >= ((pos - gap) & mask))
+            {
+                keys[gap] = keys[pos];
+                counts[gap] = counts[pos];
+                gap = pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        counts[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every fingerprint.
+     */
+    public void clear()
+    {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * @return The number of distinct fingerprints
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private int find(long fingerprint)
+    {
+        int pos = hash(fingerprint);
+        while (counts[pos] != 0)
+        {
+            if (keys[pos] == fingerprint)
+            {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int hash(long fingerprint)
+    {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+}
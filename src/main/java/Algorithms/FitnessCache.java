@@ -0,0 +1,191 @@
+package Algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of solution costs keyed by {@link SolutionFingerprint}.
+ * Entries live in a fixed array and are evicted with the clock (second chance) policy;
+ * lookups go through an open addressing index with linear probing. Not thread safe.
+ * Two different solutions sharing a 64-bit fingerprint would share a cost; at the
+ * population sizes used here that is vanishingly unlikely and is accepted.
+ */
+public final class FitnessCache
+{
+    private static final int EMPTY = -1;
+
+    // Entry storage
+    private final long[] keys;
+    private final double[] costs;
+    private final boolean[] referenced;
+    private int size;
+    private int hand;
+
+    // Open addressing index from key to entry slot
+    private final int[] index;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * @param capacity The maximum number of cached costs
+     */
+    public FitnessCache(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.keys = new long[capacity];
+        this.costs = new double[capacity];
+        this.referenced = new boolean[capacity];
+
+        // Keep the index at most half full
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+        this.index = new int[tableSize];
+        this.mask = tableSize - 1;
+        Arrays.fill(index, EMPTY);
+    }
+
+    /**
+     * Looks up a cost, counting the hit or miss.
+     *
+     * @param fingerprint The fingerprint of the solution
+     * @return The cached cost, or NaN if the solution is not cached
+     */
+    public double get(long fingerprint)
+    {
+        int slot = find(fingerprint);
+        if (slot == EMPTY)
+        {
+            misses++;
+            return Double.NaN;
+        }
+        hits++;
+        referenced[slot] = true;
+        return costs[slot];
+    }
+
+    /**
+     * Stores a cost, evicting an entry if the cache is full.
+     *
+     * @param fingerprint The fingerprint of the solution
+     * @param cost        The cost of the solution
+     */
+    public void put(long fingerprint, double cost)
+    {
+        int slot = find(fingerprint);
+        if (slot != EMPTY)
+        {
+            costs[slot] = cost;
+            referenced[slot] = true;
+            return;
+        }
+
+        if (size < keys.length)
+        {
+            slot = size++;
+        }
+        else
+        {
+            // Clock sweep: clear reference bits until an unreferenced entry is found
+            while (referenced[hand])
+            {
+                referenced[hand] = false;
+                hand = (hand + 1) % keys.length;
+            }
+            slot = hand;
+            hand = (hand + 1) % keys.length;
+            removeFromIndex(keys[slot]);
+        }
+
+        keys[slot] = fingerprint;
+        costs[slot] = cost;
+        referenced[slot] = false;
+
+        int pos = hash(fingerprint);
+        while (index[pos] != EMPTY)
+        {
+            pos = (pos + 1) & mask;
+        }
+        index[pos] = slot;
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear()
+    {
+        Arrays.fill(index, EMPTY);
+        size = 0;
+        hand = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int getCapacity()
+    {
+        return keys.length;
+    }
+
+    public long getHits()
+    {
+        return hits;
+    }
+
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    private int find(long fingerprint)
+    {
+        int pos = hash(fingerprint);
+        while (index[pos] != EMPTY)
+        {
+            if (keys[index[pos]] == fingerprint)
+            {
+                return index[pos];
+            }
+            pos = (pos + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Removes a key from the index using backward shift deletion, so no tombstones are needed.
+     */
+    private void removeFromIndex(long fingerprint)
+    {
+        int pos = hash(fingerprint);
+        while (keys[index[pos]] != fingerprint)
+        {
+            pos = (pos + 1) & mask;
+        }
+
+        int gap = pos;
+        pos = (pos + 1) & mask;
+        while (index[pos] != EMPTY)
+        {
+            int home = hash(keys[index[pos]]);
+            // Move the entry back if its home slot does not lie in (gap, pos]
+            if (((pos - home) & mask) >= ((pos - gap) & mask))
+            {
+                index[gap] = index[pos];
+                gap = pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        index[gap] = EMPTY;
+    }
+
+    private int hash(long fingerprint)
+    {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,117 @@
+package Algorithms;
+
+/**
+ * Indexed binary heap over the solutions of a population, ordered by cost.
+ * Either a min-heap with the best solution on top or a max-heap with the worst on top.
+ * The heap position of every solution is tracked, so after the cost of one solution
+ * changes the order is restored in O(log n) without rebuilding.
+ */
+final class FitnessHeap
+{
+    private final double[] fitness;
+    private final boolean worstFirst;
+
+    private final int[] heap;       // population indices in heap order
+    private final int[] position;   // population index -> position in heap
+
+    /**
+     * @param fitness    The cost of each solution; read, never written
+     * @param worstFirst True for a max-heap with the worst solution on top
+     */
+    FitnessHeap(double[] fitness, boolean worstFirst)
+    {
+        this.fitness = fitness;
+        this.worstFirst = worstFirst;
+        this.heap = new int[fitness.length];
+        this.position = new int[fitness.length];
+    }
+
+    /**
+     * Orders every solution from scratch.
+     */
+    void build()
+    {
+        for (int i = 0; i < heap.length; i++)
+        {
+            heap[i] = i;
+            position[i] = i;
+        }
+        for (int pos = heap.length / 2 - 1; pos >= 0; pos--)
+        {
+            siftDown(pos);
+        }
+    }
+
+    /**
+     * @return The index of the solution on top of the heap
+     */
+    int peek()
+    {
+        return heap[0];
+    }
+
+    /**
+     * Restores the order after the cost of one solution has changed.
+     *
+     * @param index The population index whose cost changed
+     */
+    void update(int index)
+    {
+        siftUp(position[index]);
+        siftDown(position[index]);
+    }
+
+    private void siftUp(int pos)
+    {
+        int index = heap[pos];
+        while (pos > 0)
+        {
+            int parent = (pos - 1) >>> 1;
+            if (!above(index, heap[parent]))
+            {
+                break;
+            }
+            place(pos, heap[parent]);
+            pos = parent;
+        }
+        place(pos, index);
+    }
+
+    private void siftDown(int pos)
+    {
+        int index = heap[pos];
+        while (true)
+        {
+            int child = 2 * pos + 1;
+            if (child >= heap.length)
+            {
+                break;
+            }
+            if (child + 1 < heap.length && above(heap[child + 1], heap[child]))
+            {
+                child++;
+            }
+            if (!above(heap[child], index))
+            {
+                break;
+            }
+            place(pos, heap[child]);
+            pos = child;
+        }
+        place(pos, index);
+    }
+
+    private void place(int pos, int index)
+    {
+        heap[pos] = index;
+        position[index] = pos;
+    }
+
+    /**
+     * @return True if solution a belongs above solution b
+     */
+    private boolean above(int a, int b)
+    {
+        return worstFirst ? fitness[a] > fitness[b] : fitness[a] < fitness[b];
+    }
+}
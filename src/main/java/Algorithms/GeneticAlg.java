@@ -1,23 +1,143 @@
 package Algorithms;
 
+import Model.CompatibilityIndex;
 import Model.Employee;
+import Model.ProblemInstance;
 import Model.Task;
 import Utilities.Initialise;
 import Utilities.Observer;
 import Utilities.PerformanceLogger;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Genetic Algorithm implementation
  */
 public class GeneticAlg extends AbstractOptimisationAlgorithm {
 
+    /**
+     * How parents are chosen from the current generation.
+     */
+    public enum SelectionMethod {
+        // Best of a random sample of tournamentSize solutions
+        TOURNAMENT,
+        // Linear ranking: the best of n solutions is n times as likely to be picked as the worst
+        RANK,
+        // Stochastic universal sampling with weights 1 / (1 + cost)
+        STOCHASTIC_UNIVERSAL
+    }
+
+    /**
+     * Which solution a child replaces in steady-state mode.
+     */
+    public enum ReplacementMethod {
+        // The worst solution in the population
+        WORST,
+        // The worst of a random sample of tournamentSize solutions
+        TOURNAMENT
+    }
+
+    /**
+     * How mutation picks the tasks it reassigns and their new employees.
+     */
+    public enum MutationMethod {
+        // Every task mutates with probability mutationRate, to a random compatible employee
+        UNIFORM,
+        // The same number of mutations, aimed first at tasks that violate a constraint and
+        // moved to the compatible employee with the most spare hours among a few sampled
+        CONSTRAINT_DIRECTED
+    }
+
+    /**
+     * What happens to an offspring that is a clone of another solution in the population.
+     */
+    public enum DuplicatePolicy {
+        // Clones are kept
+        ALLOW,
+        // Clones are mutated again until they differ
+        REMUTATE,
+        // Clones are replaced with random solutions
+        IMMIGRANT
+    }
+
     // Algorithm parameters
     private final double crossoverRate;
     private final double mutationRate;
     private final int elitismCount;
 
+    // Costs of recently seen solutions, keyed by fingerprint
+    private final FitnessCache fitnessCache;
+
+    // Offspring slots bred by one task; every chunk draws from its own random stream
+    private static final int OFFSPRING_CHUNK_SIZE = 32;
+
+    // Breeding threads and random seed
+    private int threads = 1;
+    private long seed;
+    private boolean seeded;
+
+    // Current generation, read by the breeding workers; fitness[i] is the cost of
+    // population[i], scored once per generation
+    private int[][] population;
+    private long[] fingerprints;
+    private double[] fitness;
+
+    // Next generation, written by the breeding workers; swapped with the current one
+    private int[][] offspring;
+    private long[] offspringFingerprints;
+    private int[] spareOffspring;
+    private int eliteCount;
+    private int[] eliteIndices;
+
+    // Breeding state, one entry per chunk of offspring slots
+    private SplittableRandom[] chunkRandoms;
+    private BreedChunk[] breedTasks;
+    private BreedAll breedAll;
+
+    // Parent selection
+    private SelectionMethod selectionMethod = SelectionMethod.TOURNAMENT;
+    private int tournamentSize = 3;
+    private SplittableRandom generationRandom;
+    private ParentSelection selection;
+
+    // Steady-state replacement
+    private boolean steadyState;
+    private ReplacementMethod replacementMethod = ReplacementMethod.WORST;
+    private int[][] steadyOffspring;   // the pair of children being bred
+    private FitnessHeap bestHeap;
+    private FitnessHeap worstHeap;
+
+    // Memetic local search, applied to a fraction of the offspring after mutation
+    private double localSearchRate;
+    private int localSearchBudget = 10_000;
+    private LocalSearch localSearch;
+    private DeltaEvaluator[] chunkEvaluators;   // one per chunk of offspring slots
+    private DeltaEvaluator steadyEvaluator;
+
+    // Mutation, uniform or constraint-directed
+    private MutationMethod mutationMethod = MutationMethod.UNIFORM;
+    private MutationOperator mutation;
+    private TaskViolations[] chunkViolations;     // one per chunk of offspring slots
+    private TaskViolations generationViolations;  // for mutations on the calling thread
+
+    // Duplicate elimination; a clone is given this many attempts to become unique
+    private static final int MAX_DUPLICATE_RETRIES = 8;
+    private DuplicatePolicy duplicatePolicy = DuplicatePolicy.ALLOW;
+    private FingerprintSet populationSet;
+    private int duplicates;        // clones found among the offspring of the last generation
+    private int duplicatesChecked; // offspring checked in the last generation
+
+    // Scratch for the cache misses of a population
+    private int[][] missSolutions;
+    private int[] missIndices;
+    private double[] missCosts;
+
+    // Best solution found so far, copied out of the generation buffers
+    private int[] globalBestSolution;
+    private double globalBestCost;
+
     /**
      * Constructor for the Genetic Algorithm.
      *
@@ -36,10 +156,23 @@ public class GeneticAlg extends AbstractOptimisationAlgorithm {
             int populationSize, double crossoverRate, double mutationRate,
             int elitismCount, int maxIterations, int reportingFrequency,
             boolean fileOutput, int runID) {
-        super(tasks, employees, reportingFrequency, fileOutput, maxIterations, populationSize, runID);
+        this(tasks, employees, ProblemInstance.of(tasks, employees), populationSize, crossoverRate, mutationRate,
+                elitismCount, maxIterations, reportingFrequency, fileOutput, runID);
+    }
+
+    /**
+     * Constructor for a Genetic Algorithm sharing an instance already compiled from the lists,
+     * such as the islands of an {@link IslandGeneticAlg}.
+     */
+    GeneticAlg(List<Task> tasks, List<Employee> employees, ProblemInstance problem,
+            int populationSize, double crossoverRate, double mutationRate,
+            int elitismCount, int maxIterations, int reportingFrequency,
+            boolean fileOutput, int runID) {
+        super(tasks, employees, problem, reportingFrequency, fileOutput, maxIterations, populationSize, runID);
         this.crossoverRate = crossoverRate;
         this.mutationRate = mutationRate;
         this.elitismCount = elitismCount;
+        this.fitnessCache = new FitnessCache(Math.max(1024, populationSize * 4));
 
     }
 
@@ -52,219 +185,663 @@ public class GeneticAlg extends AbstractOptimisationAlgorithm {
         // Start timing performance
         performanceLogger.startTimer();
 
-        // Initialize population
-        int[][] population = Initialise.getInitialPopulation(employees, tasks, populationSize);
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
 
+        // Populations are scored on the breeding threads, so the run uses no more than threads threads
+        PopulationEvaluator evaluator = populationEvaluator;
+        populationEvaluator = evaluator.withPool(pool);
         int generation = 0;
 
-        int[] globalBestSolution = findBestSolution(population);
-        double globalBestCost = CostCalculator.calculateTotalCost(globalBestSolution, tasks, employees);
+        try {
+            initialisePopulation(random);
 
-        // Main loop
-        while (generation < maxIterations && !(globalBestCost == 0)) {
-            int[][] newPopulation = new int[populationSize][tasks.size()];
+            // Main loop
+            while (generation < maxIterations && !(globalBestCost == 0)) {
+                nextGeneration(pool);
 
-            // Initialise counter for populated solutions
-            int counter;
+                // Print progress
+                if (generation % reportingFrequency == 0 || generation == maxIterations - 1) {
+                    reportProgress(globalBestSolution, generation);
+                }
 
-            // Add elite solutions to new population
-            int[][] eliteSolutions = findBestSolution(population, elitismCount);
+                // Log metrics for this generation
+                performanceLogger.logIteration(
+                        generation,
+                        bestBreakdown,
+                        PerformanceLogger.getCurrentMemoryUsageMB());
+                if (duplicatePolicy != DuplicatePolicy.ALLOW) {
+                    performanceLogger.logDuplicateRate(generation, getDuplicateRate());
+                }
+
+                generation++;
 
-            for (counter = 0; counter < elitismCount && counter < population.length; counter++) {
-                newPopulation[counter] = eliteSolutions[counter].clone();
             }
+        } finally {
+            populationEvaluator = evaluator;
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
 
-            // Fill the rest of the population with offspring
-            while (counter < populationSize) {
-                // Selection
-                int[][] parents = selectParents(population);
+        // Stop timer and save all metrics to CSV files
+        performanceLogger.stopTimer();
+        performanceLogger.setFitnessCacheStatistics(fitnessCache.getHits(), fitnessCache.getMisses());
+        performanceLogger.saveMetricsToCSV();
 
-                // Crossover
-                int[] offspring1;
-                int[] offspring2;
+        // Print final result
+        reportFinalResult(globalBestSolution, generation);
+    }
 
-                if (Math.random() < crossoverRate) {
-                    offspring1 = crossover(parents[0], parents[1]);
-                    offspring2 = crossover(parents[1], parents[0]);
-                } else {
-                    offspring1 = parents[0].clone();
-                    offspring2 = parents[1].clone();
-                }
+    /**
+     * Creates a random initial population, scores it and allocates every buffer the
+     * generations reuse.
+     *
+     * @param random The generator the initial population and the chunk streams are drawn from
+     */
+    void initialisePopulation(SplittableRandom random) {
+        int numTasks = problem.getNumTasks();
+        fitnessCache.clear();
 
-                // Mutation
-                mutate(offspring1);
-                mutate(offspring2);
+        // Initialize population
+        population = Initialise.getInitialPopulation(employees, tasks, populationSize, random);
+        fingerprints = new long[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            fingerprints[i] = SolutionFingerprint.of(population[i]);
+        }
+        fitness = new double[populationSize];
 
-                // Add to new population
-                newPopulation[counter] = offspring1.clone();
-                counter++;
+        // Second generation buffer, swapped with the first after every generation; steady-state
+        // replacement works in place and only needs room for one pair of children
+        offspring = steadyState ? new int[populationSize][] : new int[populationSize][numTasks];
+        offspringFingerprints = new long[populationSize];
+        spareOffspring = new int[numTasks];
 
-                if (counter < populationSize) {
-                    newPopulation[counter] = offspring2.clone();
-                    counter++;
-                }
+        missSolutions = new int[populationSize][];
+        missIndices = new int[populationSize];
+        missCosts = new double[populationSize];
+
+        // Every chunk keeps its own random stream for the whole run
+        eliteCount = Math.min(elitismCount, populationSize);
+        eliteIndices = new int[eliteCount];
+        int chunks = (populationSize - eliteCount + OFFSPRING_CHUNK_SIZE - 1) / OFFSPRING_CHUNK_SIZE;
+        chunkRandoms = new SplittableRandom[chunks];
+        breedTasks = new BreedChunk[chunks];
+        for (int c = 0; c < chunks; c++) {
+            chunkRandoms[c] = random.split();
+            breedTasks[c] = new BreedChunk(c);
+        }
+        breedAll = new BreedAll();
+
+        // Incremental evaluators for local search, one per breeding stream
+        chunkEvaluators = new DeltaEvaluator[localSearchRate > 0 ? chunks : 0];
+        for (int c = 0; c < chunkEvaluators.length; c++) {
+            chunkEvaluators[c] = new DeltaEvaluator(problem);
+        }
+        steadyEvaluator = localSearchRate > 0 && steadyState ? new DeltaEvaluator(problem) : null;
+        localSearch = new LocalSearch(problem, localSearchRate, localSearchBudget);
+
+        // Violation attribution for directed mutation, likewise one per breeding stream
+        mutation = new MutationOperator(problem, mutationRate, mutationMethod);
+        boolean directed = mutation.isDirected();
+        chunkViolations = new TaskViolations[directed ? chunks : 0];
+        for (int c = 0; c < chunkViolations.length; c++) {
+            chunkViolations[c] = new TaskViolations(problem);
+        }
+        generationViolations = directed ? new TaskViolations(problem) : null;
+
+        // Selection tables, refilled every generation except the fixed rank weights
+        generationRandom = random;
+        selection = new ParentSelection(selectionMethod, tournamentSize, fitness,
+                (populationSize - eliteCount + 1) & ~1);
+
+        // Clones in the initial population are treated like cloned offspring
+        populationSet = duplicatePolicy != DuplicatePolicy.ALLOW ? new FingerprintSet(populationSize) : null;
+        if (populationSet != null) {
+            removeDuplicates(population, fingerprints);
+        }
+
+        scorePopulation(population, fingerprints, fitness);
+
+        if (steadyState) {
+            steadyOffspring = new int[2][numTasks];
+            bestHeap = new FitnessHeap(fitness, false);
+            worstHeap = new FitnessHeap(fitness, true);
+            bestHeap.build();
+            worstHeap.build();
+        }
+
+        int globalBestIdx = findBestSolution(fitness);
+        globalBestSolution = population[globalBestIdx].clone();
+        globalBestCost = fitness[globalBestIdx];
+        updateBestBreakdown(globalBestSolution);
+    }
+
+    /**
+     * Breeds the next generation into the spare buffer, swaps the buffers and updates the
+     * global best. Allocates nothing once the population has been initialised.
+     *
+     * @param pool The pool to breed on, or null to breed on the calling thread
+     */
+    void nextGeneration(ForkJoinPool pool) {
+        if (steadyState) {
+            steadyStateGeneration();
+            return;
+        }
+        int numTasks = problem.getNumTasks();
+
+        // Add elite solutions to new population
+        findBestSolutions(fitness, eliteCount, eliteIndices);
+        for (int i = 0; i < eliteCount; i++) {
+            System.arraycopy(population[eliteIndices[i]], 0, offspring[i], 0, numTasks);
+            offspringFingerprints[i] = fingerprints[eliteIndices[i]];
+        }
+
+        // Fill the rest of the population with offspring
+        selection.prepare(generationRandom);
+        if (pool == null || breedTasks.length <= 1) {
+            for (int c = 0; c < breedTasks.length; c++) {
+                breedChunk(c);
             }
+        } else {
+            breedAll.reinitialize();
+            pool.invoke(breedAll);
+        }
+        if (populationSet != null) {
+            removeDuplicates(offspring, offspringFingerprints);
+        }
 
-            // Replace old population with new population
-            population = newPopulation;
+        // Replace old population with new population
+        int[][] previous = population;
+        population = offspring;
+        offspring = previous;
+        long[] previousFingerprints = fingerprints;
+        fingerprints = offspringFingerprints;
+        offspringFingerprints = previousFingerprints;
+        scorePopulation(population, fingerprints, fitness);
 
-            // Update global best
-            int[] currentBest = findBestSolution(population);
-            double currentBestCost = CostCalculator.calculateTotalCost(currentBest, tasks, employees);
+        // Update global best
+        int currentBestIdx = findBestSolution(fitness);
+        if (fitness[currentBestIdx] < globalBestCost) {
+            System.arraycopy(population[currentBestIdx], 0, globalBestSolution, 0, numTasks);
+            globalBestCost = fitness[currentBestIdx];
+            updateBestBreakdown(globalBestSolution);
+        }
+    }
+
+    /**
+     * Steady-state replacement: breeds one pair of children at a time and writes each child
+     * over a losing solution of the current population in place, so only the children are
+     * ever scored. A generation is as many pairs as generational replacement would breed,
+     * keeping the number of evaluations per generation the same. Runs on the calling thread.
+     */
+    private void steadyStateGeneration() {
+        int numTasks = problem.getNumTasks();
+        int[] offspring1 = steadyOffspring[0];
+        int[] offspring2 = steadyOffspring[1];
 
-            if (currentBestCost < globalBestCost) {
-                globalBestSolution = currentBest;
-                globalBestCost = currentBestCost;
+        // Tournament selection reads the live fitness, so there are no tables to prepare
+        int pairs = selection.getPicks() / 2;
+        duplicates = 0;
+        duplicatesChecked = 0;
+        for (int pair = 0; pair < pairs; pair++) {
+            // Selection
+            int parent1 = selection.select(2 * pair, generationRandom);
+            int parent2 = selection.select(2 * pair + 1, generationRandom);
+
+            // Crossover
+            long fingerprint1;
+            long fingerprint2;
+            if (generationRandom.nextDouble() < crossoverRate) {
+                fingerprint1 = crossover(population[parent1], population[parent2], fingerprints[parent1], offspring1, generationRandom);
+                fingerprint2 = crossover(population[parent2], population[parent1], fingerprints[parent2], offspring2, generationRandom);
+            } else {
+                System.arraycopy(population[parent1], 0, offspring1, 0, numTasks);
+                System.arraycopy(population[parent2], 0, offspring2, 0, numTasks);
+                fingerprint1 = fingerprints[parent1];
+                fingerprint2 = fingerprints[parent2];
             }
 
-            // Print progress
-            if (generation % reportingFrequency == 0 || generation == maxIterations - 1) {
-                reportProgress(globalBestSolution, generation);
+            // Mutation
+            fingerprint1 = mutation.mutate(offspring1, fingerprint1, generationViolations, generationRandom);
+            fingerprint2 = mutation.mutate(offspring2, fingerprint2, generationViolations, generationRandom);
+
+            // Local search
+            fingerprint1 = localSearch.refine(offspring1, fingerprint1, steadyEvaluator, generationRandom);
+            fingerprint2 = localSearch.refine(offspring2, fingerprint2, steadyEvaluator, generationRandom);
+
+            // Both children are bred before either replaces a parent
+            insertOffspring(offspring1, fingerprint1);
+            insertOffspring(offspring2, fingerprint2);
+        }
+    }
+
+    /**
+     * Scores a child and copies it over the loser chosen by the replacement method, unless
+     * the child is worse than the loser. The best solution is never replaced.
+     */
+    private void insertOffspring(int[] child, long fingerprint) {
+        // The population is kept free of clones; a child that stays a clone is dropped
+        if (populationSet != null) {
+            duplicatesChecked++;
+            if (populationSet.contains(fingerprint)) {
+                duplicates++;
+                fingerprint = makeUnique(child, fingerprint, generationRandom);
+                if (populationSet.contains(fingerprint)) {
+                    return;
+                }
             }
+        }
 
-            // Log metrics for this generation
-            performanceLogger.logIteration(
-                    generation,
-                    globalBestSolution,
-                    globalBestCost,
-                    PerformanceLogger.getCurrentMemoryUsageMB());
+        double cost = fitnessCache.get(fingerprint);
+        if (Double.isNaN(cost)) {
+            cost = populationEvaluator.getCostFunction().evaluate(child, problem);
+            fitnessCache.put(fingerprint, cost);
+        }
 
-            generation++;
+        int loser = replacementMethod == ReplacementMethod.WORST
+                ? worstHeap.peek()
+                : selection.selectLoser(generationRandom);
+        if (loser == bestHeap.peek() || cost > fitness[loser]) {
+            return;
+        }
 
+        System.arraycopy(child, 0, population[loser], 0, child.length);
+        if (populationSet != null) {
+            populationSet.remove(fingerprints[loser]);
+            populationSet.add(fingerprint);
         }
+        fingerprints[loser] = fingerprint;
+        fitness[loser] = cost;
+        bestHeap.update(loser);
+        worstHeap.update(loser);
 
-        // Stop timer and save all metrics to CSV files
-        performanceLogger.stopTimer();
-        performanceLogger.saveMetricsToCSV();
+        if (cost < globalBestCost) {
+            System.arraycopy(child, 0, globalBestSolution, 0, child.length);
+            globalBestCost = cost;
+            updateBestBreakdown(globalBestSolution);
+        }
+    }
 
-        // Print final result
-        reportFinalResult(globalBestSolution, generation);
+    /**
+     * Finds the clones in a population and gives each a number of attempts to become unique,
+     * as set by the duplicate policy. A clone that stays a clone is kept. Counts the clones
+     * found for the duplicate rate.
+     *
+     * @param solutions    The population, changed in place
+     * @param fingerprints The fingerprint of each solution, updated in place
+     */
+    private void removeDuplicates(int[][] solutions, long[] fingerprints) {
+        populationSet.clear();
+        duplicates = 0;
+        duplicatesChecked = solutions.length;
+        for (int i = 0; i < solutions.length; i++) {
+            if (populationSet.contains(fingerprints[i])) {
+                duplicates++;
+                fingerprints[i] = makeUnique(solutions[i], fingerprints[i], generationRandom);
+            }
+            // Counted even if it stays a clone, so the set keeps matching the population
+            populationSet.add(fingerprints[i]);
+        }
     }
 
     /**
-     * Finds the best solution in the population.
+     * Changes a clone until its fingerprint is not in the population set, giving up after
+     * MAX_DUPLICATE_RETRIES attempts. Does not add the result to the set.
      *
-     * @param population The population to search
-     * @return The best Solution
+     * @param solution    The clone, changed in place
+     * @param fingerprint Its fingerprint
+     * @param random      The generator to draw from
+     * @return The fingerprint of the changed solution
      */
-    private int[][] findBestSolution(int[][] population, int numSolutions) {
-        // Create an array to store individuals and their costs
-        List<int[]> individuals = new ArrayList<>();
-        List<Double> costs = new ArrayList<>();
+    private long makeUnique(int[] solution, long fingerprint, SplittableRandom random) {
+        for (int attempt = 0; attempt < MAX_DUPLICATE_RETRIES && populationSet.contains(fingerprint); attempt++) {
+            if (duplicatePolicy == DuplicatePolicy.IMMIGRANT) {
+                for (int taskIdx = 0; taskIdx < solution.length; taskIdx++) {
+                    solution[taskIdx] = random.nextInt(problem.getNumEmployees());
+                }
+                fingerprint = SolutionFingerprint.of(solution);
+            } else {
+                fingerprint = remutate(solution, fingerprint, random);
+            }
+        }
+        return fingerprint;
+    }
 
-        // Calculate the cost of each individual in the population
-        for (int[] individual : population) {
-            double cost = CostCalculator.calculateTotalCost(individual, tasks, employees);
-            individuals.add(individual);
-            costs.add(cost);
+    /**
+     * Mutates a solution again, reassigning one random task if mutation alone changed nothing.
+     */
+    private long remutate(int[] solution, long fingerprint, SplittableRandom random) {
+        long mutated = mutation.mutate(solution, fingerprint, generationViolations, random);
+        if (mutated != fingerprint || solution.length == 0) {
+            return mutated;
         }
+        int taskIdx = random.nextInt(solution.length);
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int compatibleCount = compatibility.count(taskIdx);
+        int newEmployeeIdx = compatibleCount > 0
+                ? compatibility.employeeAt(taskIdx, random.nextInt(compatibleCount))
+                : random.nextInt(problem.getNumEmployees());
+        fingerprint = SolutionFingerprint.update(fingerprint, taskIdx, solution[taskIdx], newEmployeeIdx);
+        solution[taskIdx] = newEmployeeIdx;
+        return fingerprint;
+    }
+
+    /**
+     * @return The fraction of the last generation's offspring that were clones of another
+     *         solution before duplicate elimination
+     */
+    public double getDuplicateRate() {
+        return duplicatesChecked == 0 ? 0.0 : (double) duplicates / duplicatesChecked;
+    }
+
+    /**
+     * Breeds the offspring of one chunk of slots, two children per pair of parents.
+     * Chunks are a fixed size and draw from their own random stream, so the result does
+     * not depend on which thread runs a chunk or on how many threads there are.
+     */
+    private void breedChunk(int chunk) {
+        SplittableRandom random = chunkRandoms[chunk];
+        DeltaEvaluator evaluator = chunkEvaluators.length > 0 ? chunkEvaluators[chunk] : null;
+        TaskViolations violations = chunkViolations.length > 0 ? chunkViolations[chunk] : null;
+        int start = eliteCount + chunk * OFFSPRING_CHUNK_SIZE;
+        int end = Math.min(populationSize, start + OFFSPRING_CHUNK_SIZE);
+        int numTasks = problem.getNumTasks();
+
+        for (int slot = start; slot < end; slot += 2) {
+            // Selection
+            int pick = slot - eliteCount;
+            int parent1 = selection.select(pick, random);
+            int parent2 = selection.select(pick + 1, random);
+
+            // Children are written straight into the next generation; the second child of
+            // an odd final slot is bred into a spare buffer and dropped
+            int[] offspring1 = offspring[slot];
+            int[] offspring2 = slot + 1 < end ? offspring[slot + 1] : spareOffspring;
+            long fingerprint1;
+            long fingerprint2;
+
+            // Crossover
+            if (random.nextDouble() < crossoverRate) {
+                fingerprint1 = crossover(population[parent1], population[parent2], fingerprints[parent1], offspring1, random);
+                fingerprint2 = crossover(population[parent2], population[parent1], fingerprints[parent2], offspring2, random);
+            } else {
+                System.arraycopy(population[parent1], 0, offspring1, 0, numTasks);
+                System.arraycopy(population[parent2], 0, offspring2, 0, numTasks);
+                fingerprint1 = fingerprints[parent1];
+                fingerprint2 = fingerprints[parent2];
+            }
 
-        // Sort individuals by cost (ascending)
-        List<Integer> indices = new ArrayList<>();
-        for (int i = 0; i < costs.size(); i++) {
-            indices.add(i);
+            // Mutation
+            fingerprint1 = mutation.mutate(offspring1, fingerprint1, violations, random);
+            fingerprint2 = mutation.mutate(offspring2, fingerprint2, violations, random);
+
+            // Local search; the dropped spare child is not worth refining
+            offspringFingerprints[slot] = localSearch.refine(offspring1, fingerprint1, evaluator, random);
+            if (slot + 1 < end) {
+                offspringFingerprints[slot + 1] = localSearch.refine(offspring2, fingerprint2, evaluator, random);
+            }
         }
-        indices.sort(Comparator.comparingDouble(costs::get));
+    }
 
-        // Select the top numSolutions individuals
-        int[][] best = new int[numSolutions][tasks.size()];
-        for (int i = 0; i < numSolutions; i++) {
-            best[i] = individuals.get(indices.get(i));
+    /**
+     * Finds the best solutions in the population without sorting it.
+     * Keeps the numSolutions best indices in a bounded max-heap whose root is the worst
+     * kept solution, then orders the heap in place. Ties go to the lower index, giving
+     * the same elites as a stable sort of the whole population.
+     *
+     * @param fitness      The cost of each solution in the population
+     * @param numSolutions The number of solutions to find
+     * @param best         Receives the indices of the best solutions, best first
+     */
+    static void findBestSolutions(double[] fitness, int numSolutions, int[] best) {
+        if (numSolutions == 0) {
+            return;
+        }
+        int size = 0;
+        for (int i = 0; i < fitness.length; i++) {
+            if (size < numSolutions) {
+                // Sift the new index up from the bottom of the heap
+                int pos = size++;
+                while (pos > 0) {
+                    int parent = (pos - 1) >>> 1;
+                    if (!isWorse(fitness, i, best[parent])) {
+                        break;
+                    }
+                    best[pos] = best[parent];
+                    pos = parent;
+                }
+                best[pos] = i;
+            } else if (isWorse(fitness, best[0], i)) {
+                siftDown(fitness, best, size, i);
+            }
         }
 
-        return best;
+        // Repeatedly move the worst kept solution to the end, leaving the best first
+        for (int end = size - 1; end > 0; end--) {
+            int worst = best[0];
+            siftDown(fitness, best, end, best[end]);
+            best[end] = worst;
+        }
     }
 
-    private int[] findBestSolution(int[][] population) {
-        // Create an array to store individuals and their costs
-        int[] best = population[0];
-        double bestCost = CostCalculator.calculateTotalCost(population[0], tasks, employees);
+    /**
+     * Places an index at the root of the heap best[0, size) and sifts it down.
+     */
+    private static void siftDown(double[] fitness, int[] best, int size, int index) {
+        int pos = 0;
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isWorse(fitness, best[child + 1], best[child])) {
+                child++;
+            }
+            if (!isWorse(fitness, best[child], index)) {
+                break;
+            }
+            best[pos] = best[child];
+            pos = child;
+        }
+        best[pos] = index;
+    }
+
+    /**
+     * @return True if solution a ranks behind solution b
+     */
+    private static boolean isWorse(double[] fitness, int a, int b) {
+        return fitness[a] > fitness[b] || (fitness[a] == fitness[b] && a > b);
+    }
 
-        for (int i = 1; i < population.length; i++) {
-            double cost = CostCalculator.calculateTotalCost(population[i], tasks, employees);
-            if (cost < bestCost) {
-                best = population[i];
+    /**
+     * Finds the best solution in the population.
+     *
+     * @param fitness The cost of each solution in the population
+     * @return The index of the best solution
+     */
+    private static int findBestSolution(double[] fitness) {
+        int best = 0;
+        for (int i = 1; i < fitness.length; i++) {
+            if (fitness[i] < fitness[best]) {
+                best = i;
             }
         }
         return best;
     }
 
     /**
-     * Selects two parent solutions using tournament selection.
+     * Scores a population, taking costs from the fitness cache where possible and
+     * evaluating the remaining solutions as one batch.
      *
-     * @param population The population to select from
-     * @return Array of two selected parent Solutions
+     * @param population   The population to score
+     * @param fingerprints The fingerprint of each solution in the population
+     * @param costs        Receives the cost of each solution
      */
-    private int[][] selectParents(int[][] population) {
-        int[][] parents = new int[2][tasks.size()];
-
-        // Tournament selection
-        for (int i = 0; i < 2; i++) {
-            int tournamentSize = 3;
-            int[][] tournament = new int[tournamentSize][tasks.size()];
+    private void scorePopulation(int[][] population, long[] fingerprints, double[] costs) {
+        int missCount = 0;
 
-            for (int j = 0; j < tournamentSize; j++) {
-                int randomIndex = new Random().nextInt(populationSize);
-                tournament[j] = population[randomIndex];
+        for (int i = 0; i < population.length; i++) {
+            costs[i] = fitnessCache.get(fingerprints[i]);
+            if (Double.isNaN(costs[i])) {
+                missSolutions[missCount] = population[i];
+                missIndices[missCount] = i;
+                missCount++;
             }
-
-            parents[i] = findBestSolution(tournament);
         }
 
-        return parents;
+        populationEvaluator.evaluate(missSolutions, 0, missCount, missCosts);
+        for (int m = 0; m < missCount; m++) {
+            int i = missIndices[m];
+            costs[i] = missCosts[m];
+            fitnessCache.put(fingerprints[i], costs[i]);
+        }
     }
 
     /**
-     * Performs crossover between two parent solutions.
+     * Finds the best solutions of the current generation.
      *
-     * @param parent1 The first parent Solution
-     * @param parent2 The second parent Solution
-     * @return A new Solution created by crossover
+     * @param count The number of solutions to find, at most the population size
+     * @param best  Receives their indices, best first
      */
-    private int[] crossover(int[] parent1, int[] parent2) {
-        int[] offspring = new int[tasks.size()];
+    void findBestIndividuals(int count, int[] best) {
+        findBestSolutions(fitness, count, best);
+    }
 
-        // Uniform crossover - for each task, choose solution from either parent1 or
-        // parent2
-        for (Task task : tasks) {
-            int taskIdx = task.getIdx();
+    int[] getIndividual(int index) {
+        return population[index];
+    }
 
-            if (Math.random() < 0.5) {
-                offspring[taskIdx] = parent1[taskIdx];
-            } else {
-                offspring[taskIdx] = parent2[taskIdx];
+    long getFingerprint(int index) {
+        return fingerprints[index];
+    }
+
+    double getFitness(int index) {
+        return fitness[index];
+    }
+
+    /**
+     * Copies a solution from outside over the worst solution of the current generation,
+     * unless it is no better than that solution.
+     *
+     * @param solution    The incoming Solution
+     * @param fingerprint Its fingerprint
+     * @param cost        Its cost
+     */
+    void replaceWorst(int[] solution, long fingerprint, double cost) {
+        int worst = 0;
+        if (steadyState) {
+            worst = worstHeap.peek();
+        } else {
+            for (int i = 1; i < populationSize; i++) {
+                if (fitness[i] > fitness[worst]) {
+                    worst = i;
+                }
             }
         }
+        if (cost >= fitness[worst]) {
+            return;
+        }
+        // A steady-state population stays free of clones between generations
+        if (steadyState && populationSet != null) {
+            if (populationSet.contains(fingerprint)) {
+                return;
+            }
+            populationSet.remove(fingerprints[worst]);
+            populationSet.add(fingerprint);
+        }
+
+        System.arraycopy(solution, 0, population[worst], 0, solution.length);
+        fingerprints[worst] = fingerprint;
+        fitness[worst] = cost;
+        if (steadyState) {
+            bestHeap.update(worst);
+            worstHeap.update(worst);
+        }
+        if (cost < globalBestCost) {
+            System.arraycopy(solution, 0, globalBestSolution, 0, solution.length);
+            globalBestCost = cost;
+            updateBestBreakdown(globalBestSolution);
+        }
+    }
+
+    /**
+     * @return The best solution found so far; the array is overwritten on improvement
+     */
+    int[] getGlobalBestSolution() {
+        return globalBestSolution;
+    }
+
+    double getGlobalBestCost() {
+        return globalBestCost;
+    }
 
-        return offspring;
+    FitnessCache getFitnessCache() {
+        return fitnessCache;
     }
 
     /**
-     * Applies mutation to a solution.
+     * Performs crossover between two parent solutions.
+     * Uniform crossover: each task comes from either parent with equal probability. The
+     * choices for 64 tasks are taken from the bits of a single random long.
      *
-     * @param solution The Solution to mutate
-     */
-    private void mutate(int[] solution) {
-        for (Task task : tasks) {
-            if (Math.random() < mutationRate) {
-
-                // Create a list of employees who can perform this task
-                List<Employee> compatibleEmployees = new ArrayList<>();
-                for (Employee employee : employees) {
-                    if (employee.hasSkill(task.getRequiredSkill()) &&
-                            employee.getSkillLevel() >= task.getDifficulty()) {
-                        compatibleEmployees.add(employee);
-                    }
-                }
+     * @param parent1      The first parent Solution
+     * @param parent2      The second parent Solution
+     * @param fingerprint1 The fingerprint of the first parent
+     * @param offspring    Receives the new Solution created by crossover
+     * @param random       The generator of the calling chunk
+     * @return The fingerprint of the offspring
+     */
+    private long crossover(int[] parent1, int[] parent2, long fingerprint1, int[] offspring,
+            SplittableRandom random) {
+        int numTasks = problem.getNumTasks();
+        long fingerprint = fingerprint1;
 
-                // If we have compatible employees, choose one randomly
-                if (!compatibleEmployees.isEmpty()) {
-                    int randomIndex = new Random().nextInt(compatibleEmployees.size());
-                    int newEmployeeIdx = compatibleEmployees.get(randomIndex).getIdx();
-                    solution[task.getIdx()] = newEmployeeIdx;
+        for (int wordStart = 0; wordStart < numTasks; wordStart += 64) {
+            long choices = random.nextLong();
+            int wordEnd = Math.min(numTasks, wordStart + 64);
+            for (int taskIdx = wordStart; taskIdx < wordEnd; taskIdx++, choices >>>= 1) {
+                if ((choices & 1) == 0) {
+                    offspring[taskIdx] = parent1[taskIdx];
+                } else {
+                    offspring[taskIdx] = parent2[taskIdx];
+                    fingerprint = SolutionFingerprint.update(fingerprint, taskIdx, parent1[taskIdx], parent2[taskIdx]);
                 }
             }
         }
+
+        return fingerprint;
+    }
+
+    /**
+     * Breeds a single chunk; one task per chunk is created for the whole run.
+     */
+    @SuppressWarnings("serial") // never serialised, only run on a fork-join pool
+    private final class BreedChunk extends RecursiveAction {
+        private final int chunk;
+
+        BreedChunk(int chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            breedChunk(chunk);
+        }
+    }
+
+    /**
+     * Forks every chunk of a generation and waits for them to finish.
+     */
+    @SuppressWarnings("serial") // never serialised, only run on a fork-join pool
+    private final class BreedAll extends RecursiveAction {
+        @Override
+        protected void compute() {
+            for (BreedChunk task : breedTasks) {
+                task.reinitialize();
+            }
+            invokeAll(breedTasks);
+        }
     }
 
     public void notifyObservers(String messageType, String title, String content) {
@@ -288,6 +865,182 @@ public class GeneticAlg extends AbstractOptimisationAlgorithm {
         return elitismCount;
     }
 
+    /**
+     * Sets how parents are chosen. Defaults to tournament selection.
+     *
+     * @throws IllegalStateException If steady-state replacement is on and the method is not
+     *                               tournament selection, see {@link #setSteadyState(boolean)}
+     */
+    public void setSelectionMethod(SelectionMethod selectionMethod)
+    {
+        if (steadyState && selectionMethod != SelectionMethod.TOURNAMENT)
+        {
+            throw new IllegalStateException("Steady-state replacement only supports tournament selection: "
+                    + selectionMethod);
+        }
+        this.selectionMethod = selectionMethod;
+    }
+
+    public SelectionMethod getSelectionMethod()
+    {
+        return selectionMethod;
+    }
+
+    /**
+     * Sets the number of solutions drawn for each tournament. Defaults to 3.
+     */
+    public void setTournamentSize(int tournamentSize)
+    {
+        if (tournamentSize < 1)
+        {
+            throw new IllegalArgumentException("Tournament size must be positive: " + tournamentSize);
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    public int getTournamentSize()
+    {
+        return tournamentSize;
+    }
+
+    /**
+     * Switches between generational replacement (the default) and steady-state replacement,
+     * where children are scored one pair at a time and replace losers in place.
+     * Steady-state runs breed on the calling thread whatever the thread count. They only
+     * support tournament selection: rank and stochastic universal tables are built once per
+     * generation and would go stale as every insertion changes the population.
+     *
+     * @throws IllegalStateException If switched on while the selection method is not tournament selection
+     */
+    public void setSteadyState(boolean steadyState)
+    {
+        if (steadyState && selectionMethod != SelectionMethod.TOURNAMENT)
+        {
+            throw new IllegalStateException("Steady-state replacement only supports tournament selection: "
+                    + selectionMethod);
+        }
+        this.steadyState = steadyState;
+    }
+
+    public boolean isSteadyState()
+    {
+        return steadyState;
+    }
+
+    /**
+     * Sets which solution a child replaces in steady-state mode. Defaults to the worst.
+     */
+    public void setReplacementMethod(ReplacementMethod replacementMethod)
+    {
+        this.replacementMethod = replacementMethod;
+    }
+
+    public ReplacementMethod getReplacementMethod()
+    {
+        return replacementMethod;
+    }
+
+    /**
+     * Makes the algorithm memetic: after mutation, this fraction of the offspring is
+     * improved by a first-improvement hill climb over single-task reassignments to
+     * compatible employees. Defaults to 0, plain genetic search.
+     */
+    public void setLocalSearchRate(double localSearchRate)
+    {
+        if (localSearchRate < 0 || localSearchRate > 1)
+        {
+            throw new IllegalArgumentException("Local search rate must be between 0 and 1: " + localSearchRate);
+        }
+        this.localSearchRate = localSearchRate;
+    }
+
+    public double getLocalSearchRate()
+    {
+        return localSearchRate;
+    }
+
+    /**
+     * Sets the number of candidate moves one local search may score. Defaults to 10,000.
+     */
+    public void setLocalSearchBudget(int localSearchBudget)
+    {
+        if (localSearchBudget < 1)
+        {
+            throw new IllegalArgumentException("Local search budget must be positive: " + localSearchBudget);
+        }
+        this.localSearchBudget = localSearchBudget;
+    }
+
+    public int getLocalSearchBudget()
+    {
+        return localSearchBudget;
+    }
+
+    /**
+     * Sets how mutation picks tasks and destination employees. Defaults to uniform mutation.
+     */
+    public void setMutationMethod(MutationMethod mutationMethod)
+    {
+        this.mutationMethod = mutationMethod;
+    }
+
+    public MutationMethod getMutationMethod()
+    {
+        return mutationMethod;
+    }
+
+    /**
+     * Sets what happens to offspring that are clones of another solution in the population.
+     * Defaults to ALLOW; the other policies also log the duplicate rate of every generation.
+     */
+    public void setDuplicatePolicy(DuplicatePolicy duplicatePolicy)
+    {
+        this.duplicatePolicy = duplicatePolicy;
+    }
+
+    public DuplicatePolicy getDuplicatePolicy()
+    {
+        return duplicatePolicy;
+    }
+
+    /**
+     * Sets the number of threads offspring are bred and scored on. With one thread (the
+     * default) the whole run stays on the calling thread. The population evaluator keeps its
+     * backend and chunk size but runs on these threads for the length of a run.
+     */
+    public void setThreads(int threads)
+    {
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * Fixes the random seed so that runs can be reproduced. Unseeded runs draw a fresh seed.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+        this.seeded = true;
+    }
+
+    public boolean isSeeded()
+    {
+        return seeded;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
     @Override
     public String getAlgorithmName() {
         return "GeneticAlg";
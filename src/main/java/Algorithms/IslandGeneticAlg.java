@@ -0,0 +1,552 @@
+package Algorithms;
+
+import Algorithms.GeneticAlg.DuplicatePolicy;
+import Algorithms.GeneticAlg.MutationMethod;
+import Algorithms.GeneticAlg.ReplacementMethod;
+import Algorithms.GeneticAlg.SelectionMethod;
+import Model.Employee;
+import Model.Task;
+import Utilities.Observer;
+import Utilities.PerformanceLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Island model Genetic Algorithm.
+ * The population is split into islands that each evolve as an independent GeneticAlg on
+ * their own thread. Every migrationInterval generations an island sends copies of its best
+ * solutions to its neighbours and takes whatever has arrived in its own inbox in place of
+ * its worst solutions. Inboxes are lock-free queues, so islands never wait for each other.
+ */
+public class IslandGeneticAlg extends AbstractOptimisationAlgorithm {
+
+    /**
+     * Which islands an island sends its migrants to.
+     */
+    public enum MigrationTopology {
+        // Island i sends to island i + 1, the last island to the first
+        RING,
+        // Every island sends to every other island
+        FULLY_CONNECTED
+    }
+
+    // Algorithm parameters
+    private final double crossoverRate;
+    private final double mutationRate;
+    private final int elitismCount;
+
+    // Island parameters
+    private final int numIslands;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final MigrationTopology topology;
+
+    // Settings applied to the GeneticAlg of every island, see the GeneticAlg setters
+    private int threads = 1;
+    private SelectionMethod selectionMethod = SelectionMethod.TOURNAMENT;
+    private int tournamentSize = 3;
+    private boolean steadyState;
+    private ReplacementMethod replacementMethod = ReplacementMethod.WORST;
+    private double localSearchRate;
+    private MutationMethod mutationMethod = MutationMethod.UNIFORM;
+    private DuplicatePolicy duplicatePolicy = DuplicatePolicy.ALLOW;
+
+    private long seed;
+    private boolean seeded;
+
+    // Raised by the first island to find a solution of cost zero
+    private volatile boolean solved;
+
+    /**
+     * Constructor for the island model Genetic Algorithm.
+     *
+     * @param tasks              The list of tasks to be assigned
+     * @param employees          The list of employees available for solution
+     * @param populationSize     Total size of the population, shared out between the islands
+     * @param crossoverRate      Probability of crossover (0.0-1.0)
+     * @param mutationRate       Probability of mutation (0.0-1.0)
+     * @param elitismCount       Number of elite solutions kept by each island
+     * @param maxIterations      Maximum number of generations each island runs
+     * @param reportingFrequency The frequency of progress reports printed to the
+     *                           console.
+     * @param fileOutput         Whether to output results to a file
+     * @param numIslands         Number of islands, each evolving on its own thread
+     * @param migrationInterval  Number of generations between migrations
+     * @param migrantCount       Number of solutions an island sends to each neighbour
+     * @param topology           Which islands receive an island's migrants
+     */
+    public IslandGeneticAlg(List<Task> tasks, List<Employee> employees,
+            int populationSize, double crossoverRate, double mutationRate,
+            int elitismCount, int maxIterations, int reportingFrequency,
+            boolean fileOutput, int runID, int numIslands, int migrationInterval,
+            int migrantCount, MigrationTopology topology) {
+        super(tasks, employees, reportingFrequency, fileOutput, maxIterations, populationSize, runID);
+        if (numIslands < 1 || numIslands > populationSize) {
+            throw new IllegalArgumentException("Island count must be between 1 and the population size: " + numIslands);
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be positive: " + migrationInterval);
+        }
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException("Migrant count must not be negative: " + migrantCount);
+        }
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.elitismCount = elitismCount;
+        this.numIslands = numIslands;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+        this.topology = topology;
+    }
+
+    /**
+     * Runs every island to completion and reports the best solution found on any of them.
+     */
+    @Override
+    public void run() {
+        // Start timing performance
+        performanceLogger.startTimer();
+        solved = false;
+
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        Island[] islands = new Island[numIslands];
+        for (int i = 0; i < numIslands; i++) {
+            islands[i] = new Island(createIsland(i), random.split());
+        }
+        connect(islands);
+
+        ExecutorService executor = Executors.newFixedThreadPool(numIslands);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Island island : islands) {
+                futures.add(executor.submit(island));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Island failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The islands ran independently, so the run is as long as the longest island
+        int generations = 0;
+        long cacheHits = 0;
+        long cacheMisses = 0;
+        for (Island island : islands) {
+            generations = Math.max(generations, island.generations);
+            cacheHits += island.ga.getFitnessCache().getHits();
+            cacheMisses += island.ga.getFitnessCache().getMisses();
+        }
+
+        for (int generation = 0; generation < generations; generation++) {
+            Island best = islands[0];
+            for (Island island : islands) {
+                if (island.costAt(generation) < best.costAt(generation)) {
+                    best = island;
+                }
+            }
+            CostBreakdown breakdown = best.breakdownAt(generation);
+
+            // Print progress
+            if (generation % reportingFrequency == 0 || generation == maxIterations - 1) {
+                reportProgress(breakdown.getTotalCost(), breakdown.isFeasible(), generation);
+            }
+
+            // Log metrics for this generation
+            performanceLogger.logIteration(generation, breakdown, best.memoryAt(generation));
+        }
+
+        for (int i = 0; i < numIslands; i++) {
+            for (int generation = 0; generation < islands[i].generations; generation++) {
+                performanceLogger.logIslandBest(i, generation, islands[i].costAt(generation));
+            }
+        }
+
+        Island bestIsland = islands[0];
+        for (Island island : islands) {
+            if (island.ga.getGlobalBestCost() < bestIsland.ga.getGlobalBestCost()) {
+                bestIsland = island;
+            }
+        }
+        int[] globalBestSolution = bestIsland.ga.getGlobalBestSolution().clone();
+        bestBreakdown.copyFrom(bestIsland.ga.bestBreakdown);
+
+        // Stop timer and save all metrics to CSV files
+        performanceLogger.stopTimer();
+        performanceLogger.setFitnessCacheStatistics(cacheHits, cacheMisses);
+        performanceLogger.saveMetricsToCSV();
+
+        // Print final result
+        reportFinalResult(globalBestSolution, generations);
+    }
+
+    /**
+     * Creates the Genetic Algorithm of one island with the island settings. The remainder of
+     * the population is shared out one solution at a time to the first islands.
+     */
+    private GeneticAlg createIsland(int index) {
+        int islandSize = populationSize / numIslands + (index < populationSize % numIslands ? 1 : 0);
+        GeneticAlg ga = new GeneticAlg(tasks, employees, problem, islandSize, crossoverRate, mutationRate,
+                Math.min(elitismCount, islandSize), maxIterations, reportingFrequency, false, runID);
+        ga.setThreads(threads);
+        ga.setSelectionMethod(selectionMethod);
+        ga.setTournamentSize(tournamentSize);
+        ga.setSteadyState(steadyState);
+        ga.setReplacementMethod(replacementMethod);
+        ga.setLocalSearchRate(localSearchRate);
+        ga.setMutationMethod(mutationMethod);
+        ga.setDuplicatePolicy(duplicatePolicy);
+        return ga;
+    }
+
+    /**
+     * Sets the neighbours of every island according to the topology.
+     */
+    private void connect(Island[] islands) {
+        for (int i = 0; i < islands.length; i++) {
+            if (islands.length == 1) {
+                islands[i].neighbours = new Island[0];
+            } else if (topology == MigrationTopology.RING) {
+                islands[i].neighbours = new Island[] { islands[(i + 1) % islands.length] };
+            } else {
+                Island[] neighbours = new Island[islands.length - 1];
+                for (int j = 0, n = 0; j < islands.length; j++) {
+                    if (j != i) {
+                        neighbours[n++] = islands[j];
+                    }
+                }
+                islands[i].neighbours = neighbours;
+            }
+        }
+    }
+
+    /**
+     * A copy of a solution in transit between islands.
+     */
+    private record Migrant(int[] solution, long fingerprint, double cost) {
+    }
+
+    /**
+     * One island: a Genetic Algorithm, the inbox its neighbours post migrants to and the
+     * history of its best solution.
+     */
+    private final class Island implements Runnable {
+        private final GeneticAlg ga;
+        private final SplittableRandom random;
+        private final ConcurrentLinkedQueue<Migrant> inbox = new ConcurrentLinkedQueue<>();
+        private Island[] neighbours;
+
+        // Best cost, breakdown and memory use after each generation; breakdowns are only copied on improvement
+        private final double[] bestCost = new double[maxIterations];
+        private final CostBreakdown[] bestBreakdowns = new CostBreakdown[maxIterations];
+        private final double[] memoryUsed = new double[maxIterations];
+        private final CostBreakdown initialBreakdown = new CostBreakdown();
+        private int generations;
+
+        private final int[] emigrants;
+
+        Island(GeneticAlg ga, SplittableRandom random) {
+            this.ga = ga;
+            this.random = random;
+            this.emigrants = new int[Math.min(migrantCount, ga.getPopulationSize())];
+        }
+
+        @Override
+        public void run() {
+            // Islands are the unit of parallelism: each one breeds and scores on its own thread,
+            // or on a pool of its own when islands are given more than one thread
+            ForkJoinPool pool = ga.getThreads() > 1 ? new ForkJoinPool(ga.getThreads()) : null;
+            ga.setPopulationEvaluator(new PopulationEvaluator(problem, pool, PopulationEvaluator.DEFAULT_CHUNK_SIZE));
+            try {
+                evolve(pool);
+            } finally {
+                if (pool != null) {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        private void evolve(ForkJoinPool pool) {
+            ga.initialisePopulation(random);
+            initialBreakdown.copyFrom(ga.bestBreakdown);
+            CostBreakdown current = initialBreakdown;
+            if (ga.getGlobalBestCost() == 0) {
+                solved = true;
+            }
+
+            int generation = 0;
+            while (generation < maxIterations && !solved) {
+                ga.nextGeneration(pool);
+                if ((generation + 1) % migrationInterval == 0) {
+                    migrate();
+                }
+
+                if (ga.getGlobalBestCost() < current.getTotalCost()) {
+                    current = new CostBreakdown();
+                    current.copyFrom(ga.bestBreakdown);
+                }
+                bestCost[generation] = current.getTotalCost();
+                bestBreakdowns[generation] = current;
+                memoryUsed[generation] = PerformanceLogger.getCurrentMemoryUsageMB();
+                if (current.getTotalCost() == 0) {
+                    solved = true;
+                }
+                generation++;
+            }
+            generations = generation;
+        }
+
+        /**
+         * Sends copies of the best solutions to every neighbour, then takes in every
+         * migrant that has arrived in place of the worst solutions.
+         */
+        private void migrate() {
+            ga.findBestIndividuals(emigrants.length, emigrants);
+            for (Island neighbour : neighbours) {
+                for (int index : emigrants) {
+                    neighbour.inbox.offer(new Migrant(ga.getIndividual(index).clone(),
+                            ga.getFingerprint(index), ga.getFitness(index)));
+                }
+            }
+
+            Migrant migrant;
+            while ((migrant = inbox.poll()) != null) {
+                ga.replaceWorst(migrant.solution(), migrant.fingerprint(), migrant.cost());
+            }
+        }
+
+        /**
+         * @return The best cost as of the generation, holding the last value once the island has stopped
+         */
+        double costAt(int generation) {
+            return generations == 0 ? initialBreakdown.getTotalCost() : bestCost[Math.min(generation, generations - 1)];
+        }
+
+        CostBreakdown breakdownAt(int generation) {
+            return generations == 0 ? initialBreakdown : bestBreakdowns[Math.min(generation, generations - 1)];
+        }
+
+        double memoryAt(int generation) {
+            return generations == 0 ? 0 : memoryUsed[Math.min(generation, generations - 1)];
+        }
+    }
+
+    public void notifyObservers(String messageType, String title, String content) {
+        for (Observer observer : observers) {
+            observer.update(messageType, title, content);
+        }
+    }
+
+    /**
+     * Fixes the random seed of the islands. Migration timing depends on thread scheduling,
+     * so only runs with a single island or no migrants are fully reproducible.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+        this.seeded = true;
+    }
+
+    public boolean isSeeded()
+    {
+        return seeded;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Sets the number of threads every island breeds and scores on, see
+     * {@link GeneticAlg#setThreads(int)}. Islands already run side by side, one thread each
+     * by default, so a run uses up to numIslands times this many threads.
+     */
+    public void setThreads(int threads)
+    {
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * Sets how every island chooses parents, see {@link GeneticAlg#setSelectionMethod(SelectionMethod)}.
+     *
+     * @throws IllegalStateException If steady-state replacement is on and the method is not tournament selection
+     */
+    public void setSelectionMethod(SelectionMethod selectionMethod)
+    {
+        if (steadyState && selectionMethod != SelectionMethod.TOURNAMENT)
+        {
+            throw new IllegalStateException("Steady-state replacement only supports tournament selection: "
+                    + selectionMethod);
+        }
+        this.selectionMethod = selectionMethod;
+    }
+
+    public SelectionMethod getSelectionMethod()
+    {
+        return selectionMethod;
+    }
+
+    /**
+     * Sets the tournament size of every island, see {@link GeneticAlg#setTournamentSize(int)}.
+     */
+    public void setTournamentSize(int tournamentSize)
+    {
+        if (tournamentSize < 1)
+        {
+            throw new IllegalArgumentException("Tournament size must be positive: " + tournamentSize);
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    public int getTournamentSize()
+    {
+        return tournamentSize;
+    }
+
+    /**
+     * Switches every island to steady-state replacement, see {@link GeneticAlg#setSteadyState(boolean)}.
+     *
+     * @throws IllegalStateException If switched on while the selection method is not tournament selection
+     */
+    public void setSteadyState(boolean steadyState)
+    {
+        if (steadyState && selectionMethod != SelectionMethod.TOURNAMENT)
+        {
+            throw new IllegalStateException("Steady-state replacement only supports tournament selection: "
+                    + selectionMethod);
+        }
+        this.steadyState = steadyState;
+    }
+
+    public boolean isSteadyState()
+    {
+        return steadyState;
+    }
+
+    /**
+     * Sets which solution a child replaces on every steady-state island.
+     */
+    public void setReplacementMethod(ReplacementMethod replacementMethod)
+    {
+        this.replacementMethod = replacementMethod;
+    }
+
+    public ReplacementMethod getReplacementMethod()
+    {
+        return replacementMethod;
+    }
+
+    /**
+     * Sets the memetic local search rate of every island, see {@link GeneticAlg#setLocalSearchRate(double)}.
+     */
+    public void setLocalSearchRate(double localSearchRate)
+    {
+        if (localSearchRate < 0 || localSearchRate > 1)
+        {
+            throw new IllegalArgumentException("Local search rate must be between 0 and 1: " + localSearchRate);
+        }
+        this.localSearchRate = localSearchRate;
+    }
+
+    public double getLocalSearchRate()
+    {
+        return localSearchRate;
+    }
+
+    /**
+     * Sets how every island mutates offspring.
+     */
+    public void setMutationMethod(MutationMethod mutationMethod)
+    {
+        this.mutationMethod = mutationMethod;
+    }
+
+    public MutationMethod getMutationMethod()
+    {
+        return mutationMethod;
+    }
+
+    /**
+     * Sets what happens to cloned offspring on every island. Migrants are not checked, so a
+     * migrant may still duplicate a solution of a generational island.
+     */
+    public void setDuplicatePolicy(DuplicatePolicy duplicatePolicy)
+    {
+        this.duplicatePolicy = duplicatePolicy;
+    }
+
+    public DuplicatePolicy getDuplicatePolicy()
+    {
+        return duplicatePolicy;
+    }
+
+    public double getCrossoverRate()
+    {
+        return crossoverRate;
+    }
+
+    public double getMutationRate()
+    {
+        return mutationRate;
+    }
+
+    public int getElitismCount()
+    {
+        return elitismCount;
+    }
+
+    public int getNumIslands()
+    {
+        return numIslands;
+    }
+
+    public int getMigrationInterval()
+    {
+        return migrationInterval;
+    }
+
+    public int getMigrantCount()
+    {
+        return migrantCount;
+    }
+
+    public MigrationTopology getTopology()
+    {
+        return topology;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "IslandGeneticAlg";
+    }
+
+    @Override
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+}
@@ -0,0 +1,110 @@
+package Algorithms;
+
+import Model.CompatibilityIndex;
+import Model.ProblemInstance;
+
+import java.util.SplittableRandom;
+
+/**
+ * Memetic local search of a Genetic Algorithm: refines a fraction of the offspring with a
+ * bounded first-improvement hill climb over single-task reassignments to compatible
+ * employees. Holds no per-solution state: every stream passes its own generator and
+ * incremental evaluator.
+ */
+final class LocalSearch
+{
+    private final ProblemInstance problem;
+    private final double rate;
+    private final int budget;
+
+    /**
+     * @param problem The compiled problem instance
+     * @param rate    The fraction of the offspring refined
+     * @param budget  The number of candidate moves one search may score
+     */
+    LocalSearch(ProblemInstance problem, double rate, int budget)
+    {
+        this.problem = problem;
+        this.rate = rate;
+        this.budget = budget;
+    }
+
+    /**
+     * Refines a child with local search, with probability rate.
+     *
+     * @param solution    The Solution to refine in place
+     * @param fingerprint The fingerprint of the solution
+     * @param evaluator   The incremental evaluator of the calling stream
+     * @param random      The generator of the calling stream
+     * @return The fingerprint of the refined solution
+     */
+    long refine(int[] solution, long fingerprint, DeltaEvaluator evaluator, SplittableRandom random)
+    {
+        if (rate > 0 && random.nextDouble() < rate)
+        {
+            fingerprint = climb(solution, fingerprint, evaluator, random);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Bounded first-improvement hill climb over single-task reassignments.
+     * Tasks are visited in cyclic order from a random start and each task's compatible
+     * employees from a random offset; the first move that lowers the cost is applied at
+     * once. Moves are scored by the delta evaluator from per-employee workloads, never by
+     * re-evaluating the solution. Stops at a local optimum, at cost zero, or once budget
+     * moves have been scored.
+     *
+     * @param solution    The Solution to improve in place
+     * @param fingerprint The fingerprint of the solution
+     * @param evaluator   The incremental evaluator of the calling stream
+     * @param random      The generator of the calling stream
+     * @return The fingerprint of the improved solution
+     */
+    private long climb(int[] solution, long fingerprint, DeltaEvaluator evaluator, SplittableRandom random)
+    {
+        int numTasks = problem.getNumTasks();
+        if (numTasks == 0)
+        {
+            return fingerprint;
+        }
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        evaluator.load(solution);
+        double cost = evaluator.getCost();
+
+        int moves = budget;
+        int taskIdx = random.nextInt(numTasks);
+        int tasksWithoutImprovement = 0;
+        while (moves > 0 && cost > 0 && tasksWithoutImprovement < numTasks)
+        {
+            int current = solution[taskIdx];
+            int compatibleCount = compatibility.count(taskIdx);
+            boolean improved = false;
+
+            int offset = compatibleCount > 0 ? random.nextInt(compatibleCount) : 0;
+            for (int k = 0; k < compatibleCount && moves > 0; k++)
+            {
+                int index = offset + k < compatibleCount ? offset + k : offset + k - compatibleCount;
+                int employeeIdx = compatibility.employeeAt(taskIdx, index);
+                if (employeeIdx == current)
+                {
+                    continue;
+                }
+                moves--;
+                double movedCost = evaluator.costAfter(taskIdx, employeeIdx);
+                if (movedCost < cost)
+                {
+                    evaluator.apply(taskIdx, employeeIdx);
+                    fingerprint = SolutionFingerprint.update(fingerprint, taskIdx, current, employeeIdx);
+                    cost = movedCost;
+                    improved = true;
+                    break;
+                }
+            }
+
+            tasksWithoutImprovement = improved ? 0 : tasksWithoutImprovement + 1;
+            taskIdx = taskIdx + 1 < numTasks ? taskIdx + 1 : 0;
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,217 @@
+package Algorithms;
+
+import Algorithms.GeneticAlg.MutationMethod;
+import Model.CompatibilityIndex;
+import Model.ProblemInstance;
+
+import java.util.SplittableRandom;
+
+/**
+ * Mutation of a Genetic Algorithm's offspring, uniform or constraint-directed.
+ * Each task mutates with probability mutationRate. Instead of a random draw per task, the
+ * gap to the next mutated task is drawn from the matching geometric distribution, so a
+ * solution costs one draw per mutated task rather than one per task.
+ * Holds no per-solution state: every stream passes its own generator and violation scratch.
+ */
+final class MutationOperator
+{
+    // Compatible employees sampled per destination choice of directed mutation
+    private static final int DESTINATION_SAMPLES = 4;
+
+    private final ProblemInstance problem;
+    private final double mutationRate;
+    private final MutationMethod method;
+
+    // log(1 - mutationRate), the scale of the geometric gaps between mutated genes
+    private final double logKeepRate;
+
+    MutationOperator(ProblemInstance problem, double mutationRate, MutationMethod method)
+    {
+        this.problem = problem;
+        this.mutationRate = mutationRate;
+        this.method = method;
+        this.logKeepRate = Math.log1p(-mutationRate);
+    }
+
+    /**
+     * @return True if mutations are directed at violating tasks, which needs violation scratch
+     */
+    boolean isDirected()
+    {
+        return method == MutationMethod.CONSTRAINT_DIRECTED;
+    }
+
+    /**
+     * Applies mutation to a solution.
+     *
+     * @param solution    The Solution to mutate
+     * @param fingerprint The fingerprint of the solution
+     * @param violations  Scratch for constraint-directed mutation, null for uniform mutation
+     * @param random      The generator of the calling chunk
+     * @return The fingerprint of the mutated solution
+     */
+    long mutate(int[] solution, long fingerprint, TaskViolations violations, SplittableRandom random)
+    {
+        if (mutationRate <= 0)
+        {
+            return fingerprint;
+        }
+        if (method == MutationMethod.CONSTRAINT_DIRECTED)
+        {
+            return mutateDirected(solution, fingerprint, violations, random);
+        }
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int numTasks = problem.getNumTasks();
+        for (int taskIdx = nextGap(random, numTasks); taskIdx < numTasks;
+                taskIdx += 1 + nextGap(random, numTasks))
+        {
+            // If we have employees who can perform this task, choose one randomly
+            int compatibleCount = compatibility.count(taskIdx);
+            if (compatibleCount > 0)
+            {
+                int randomIndex = random.nextInt(compatibleCount);
+                int newEmployeeIdx = compatibility.employeeAt(taskIdx, randomIndex);
+                fingerprint = SolutionFingerprint.update(fingerprint, taskIdx, solution[taskIdx], newEmployeeIdx);
+                solution[taskIdx] = newEmployeeIdx;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Constraint-directed mutation. Makes as many mutations as uniform mutation would, but
+     * spends them on tasks that violate a constraint, drawn at random without repeats, before
+     * any other task. Each mutated task moves to the compatible employee with the most spare
+     * hours among DESTINATION_SAMPLES sampled, with workloads tracked across the mutations.
+     * Tasks no employee is compatible with are only targeted while they violate more than
+     * the one skill constraint they cannot avoid.
+     * Attributing the violations costs one evaluation, skipped when nothing mutates.
+     *
+     * @param solution    The Solution to mutate
+     * @param fingerprint The fingerprint of the solution
+     * @param violations  Receives the violations of the solution
+     * @param random      The generator of the calling chunk
+     * @return The fingerprint of the mutated solution
+     */
+    private long mutateDirected(int[] solution, long fingerprint, TaskViolations violations, SplittableRandom random)
+    {
+        int numTasks = problem.getNumTasks();
+        int mutations = 0;
+        for (int taskIdx = nextGap(random, numTasks); taskIdx < numTasks;
+                taskIdx += 1 + nextGap(random, numTasks))
+        {
+            mutations++;
+        }
+        if (mutations == 0)
+        {
+            return fingerprint;
+        }
+
+        CostKernel.evaluate(solution, problem, violations);
+        int[] violating = violations.violating();
+        int[] workload = violations.workload();
+        int remaining = violations.getViolatingCount();
+
+        for (int m = 0; m < mutations; m++)
+        {
+            int taskIdx = -1;
+            while (taskIdx == -1 && remaining > 0)
+            {
+                // Move the picked task past the end of the remaining list
+                int pick = random.nextInt(remaining);
+                int candidate = violating[pick];
+                violating[pick] = violating[--remaining];
+                violating[remaining] = candidate;
+                if (!isUnavoidable(candidate, violations.getFlags(candidate)))
+                {
+                    taskIdx = candidate;
+                }
+            }
+            if (taskIdx == -1)
+            {
+                taskIdx = random.nextInt(numTasks);
+            }
+
+            int newEmployeeIdx = pickDestination(taskIdx, workload, random);
+            int oldEmployeeIdx = solution[taskIdx];
+            if (newEmployeeIdx == oldEmployeeIdx)
+            {
+                continue;
+            }
+            int time = problem.getEstimatedTime(taskIdx);
+            if (problem.isAssigned(oldEmployeeIdx))
+            {
+                workload[oldEmployeeIdx] -= time;
+            }
+            workload[newEmployeeIdx] += time;
+            fingerprint = SolutionFingerprint.update(fingerprint, taskIdx, oldEmployeeIdx, newEmployeeIdx);
+            solution[taskIdx] = newEmployeeIdx;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return True if the task violates only the one skill constraint that every employee
+     *         would violate, as no employee is compatible with it
+     */
+    private boolean isUnavoidable(int taskIdx, int flags)
+    {
+        return problem.getCompatibility().count(taskIdx) == 0
+                && (flags == TaskViolations.SKILL_MISMATCH || flags == TaskViolations.SKILL_LEVEL);
+    }
+
+    /**
+     * Samples employees for a task and keeps the one with the most hours to spare once the
+     * task is added. Samples compatible employees where there are any; otherwise samples all
+     * employees and prefers those that violate only one of the two skill constraints.
+     *
+     * @return The chosen employee
+     */
+    private int pickDestination(int taskIdx, int[] workload, SplittableRandom random)
+    {
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int compatibleCount = compatibility.count(taskIdx);
+        int candidates = compatibleCount > 0 ? compatibleCount : problem.getNumEmployees();
+        int time = problem.getEstimatedTime(taskIdx);
+        int best = -1;
+        int bestViolations = Integer.MAX_VALUE;
+        int bestSpare = Integer.MIN_VALUE;
+        for (int sample = 0; sample < Math.min(DESTINATION_SAMPLES, candidates); sample++)
+        {
+            int employeeIdx;
+            int violations = 0;
+            if (compatibleCount > 0)
+            {
+                employeeIdx = compatibility.employeeAt(taskIdx, random.nextInt(compatibleCount));
+            }
+            else
+            {
+                employeeIdx = random.nextInt(candidates);
+                violations += problem.hasSkill(taskIdx, employeeIdx) ? 0 : 1;
+                violations += problem.getDifficulty(taskIdx) > problem.getSkillLevel(employeeIdx) ? 1 : 0;
+            }
+            int spare = problem.getAvailableHours(employeeIdx) - workload[employeeIdx] - time;
+            if (violations < bestViolations || (violations == bestViolations && spare > bestSpare))
+            {
+                best = employeeIdx;
+                bestViolations = violations;
+                bestSpare = spare;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Draws the number of tasks skipped before the next mutation, capped at numTasks.
+     * The gap is geometric: floor(log(U) / log(1 - mutationRate)) for U uniform on (0, 1].
+     */
+    private int nextGap(SplittableRandom random, int numTasks)
+    {
+        if (mutationRate >= 1)
+        {
+            return 0;
+        }
+        double gap = Math.log(1.0 - random.nextDouble()) / logKeepRate;
+        return gap < numTasks ? (int) gap : numTasks;
+    }
+}
@@ -0,0 +1,196 @@
+package Algorithms;
+
+import Algorithms.GeneticAlg.SelectionMethod;
+
+import java.util.SplittableRandom;
+
+/**
+ * Parent selection over the costs of a Genetic Algorithm's current population: tournament,
+ * linear rank or stochastic universal sampling, plus the reverse tournament steady-state
+ * replacement uses to pick a loser.
+ * Rank and universal selection read tables built once per generation by
+ * {@link #prepare(SplittableRandom)}; after that, breeding workers may select concurrently.
+ */
+final class ParentSelection
+{
+    private final SelectionMethod method;
+    private final int tournamentSize;
+    private final double[] fitness;          // cost of each solution; read, never written
+
+    private final int[] rankOrder;           // population indices, best first (RANK)
+    private final double[] selectionTable;   // cumulative selection weights (RANK, STOCHASTIC_UNIVERSAL)
+    private final int[] universalParents;    // the parents of every pick this generation (STOCHASTIC_UNIVERSAL)
+
+    /**
+     * @param method         How parents are chosen
+     * @param tournamentSize The number of solutions drawn for each tournament
+     * @param fitness        The cost of each solution of the population
+     * @param picks          The number of parents picked per generation
+     */
+    ParentSelection(SelectionMethod method, int tournamentSize, double[] fitness, int picks)
+    {
+        this.method = method;
+        this.tournamentSize = tournamentSize;
+        this.fitness = fitness;
+        int populationSize = fitness.length;
+        this.rankOrder = new int[populationSize];
+        this.selectionTable = new double[populationSize];
+        this.universalParents = new int[picks];
+
+        // Rank weights are fixed for the whole run
+        if (method == SelectionMethod.RANK)
+        {
+            double total = 0;
+            for (int rank = 0; rank < populationSize; rank++)
+            {
+                total += populationSize - rank;
+                selectionTable[rank] = total;
+            }
+        }
+    }
+
+    /**
+     * @return The number of parents picked per generation
+     */
+    int getPicks()
+    {
+        return universalParents.length;
+    }
+
+    /**
+     * Builds the selection tables for the current generation. Called once per generation,
+     * before breeding, so the workers only read them.
+     *
+     * @param random The generator of the generation
+     */
+    void prepare(SplittableRandom random)
+    {
+        switch (method)
+        {
+            case RANK -> GeneticAlg.findBestSolutions(fitness, fitness.length, rankOrder);
+            case STOCHASTIC_UNIVERSAL -> sampleUniversal(random);
+            default ->
+            {
+            }
+        }
+    }
+
+    /**
+     * Selects a parent solution from the current population.
+     *
+     * @param pick   The number of this pick in the generation, counting from zero
+     * @param random The generator of the calling chunk
+     * @return The index of the selected parent
+     */
+    int select(int pick, SplittableRandom random)
+    {
+        return switch (method)
+        {
+            case TOURNAMENT -> selectByTournament(random);
+            case RANK -> rankOrder[selectByRank(random)];
+            case STOCHASTIC_UNIVERSAL -> universalParents[pick];
+        };
+    }
+
+    /**
+     * Reverse tournament: the worst of tournamentSize solutions drawn at random.
+     */
+    int selectLoser(SplittableRandom random)
+    {
+        int worst = -1;
+        for (int j = 0; j < tournamentSize; j++)
+        {
+            int randomIndex = random.nextInt(fitness.length);
+            if (worst == -1 || fitness[randomIndex] > fitness[worst])
+            {
+                worst = randomIndex;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Picks every parent of the generation with stochastic universal sampling: evenly spaced
+     * pointers from one random offset over the cumulative weights 1 / (1 + cost). The picks
+     * are then shuffled so that neighbouring solutions are not always paired.
+     */
+    private void sampleUniversal(SplittableRandom random)
+    {
+        int populationSize = fitness.length;
+        double total = 0;
+        for (int i = 0; i < populationSize; i++)
+        {
+            total += 1.0 / (1.0 + fitness[i]);
+            selectionTable[i] = total;
+        }
+
+        int picks = universalParents.length;
+        double step = total / picks;
+        double pointer = random.nextDouble() * step;
+        int i = 0;
+        for (int p = 0; p < picks; p++)
+        {
+            while (i < populationSize - 1 && selectionTable[i] <= pointer)
+            {
+                i++;
+            }
+            universalParents[p] = i;
+            pointer += step;
+        }
+
+        for (int p = picks - 1; p > 0; p--)
+        {
+            int j = random.nextInt(p + 1);
+            int parent = universalParents[p];
+            universalParents[p] = universalParents[j];
+            universalParents[j] = parent;
+        }
+    }
+
+    /**
+     * Tournament selection: the best of tournamentSize solutions drawn at random.
+     */
+    private int selectByTournament(SplittableRandom random)
+    {
+        int best = -1;
+        double bestCost = Double.MAX_VALUE;
+
+        for (int j = 0; j < tournamentSize; j++)
+        {
+            int randomIndex = random.nextInt(fitness.length);
+            double cost = fitness[randomIndex];
+            if (best == -1 || cost < bestCost)
+            {
+                best = randomIndex;
+                bestCost = cost;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Linear rank selection: the solution at rank r (0 = best) of n has weight n - r.
+     *
+     * @return The rank of the selected solution
+     */
+    private int selectByRank(SplittableRandom random)
+    {
+        double target = random.nextDouble() * selectionTable[fitness.length - 1];
+        int low = 0;
+        int high = fitness.length - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (selectionTable[mid] > target)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
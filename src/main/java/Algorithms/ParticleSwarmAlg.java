@@ -1,9 +1,9 @@
 package Algorithms;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import Model.CompatibilityIndex;
 import Model.Employee;
 import Model.Task;
 import Utilities.Initialise;
@@ -68,6 +68,7 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
         gBestData.gBest = Double.MAX_VALUE;
         gBestData.gBestArr = new int[tasks.size()];
         double[] fitnessPBest = new double[populationSize]; // contains the fitness value for each pBest.
+        double[] newCosts = new double[populationSize]; // contains the fitness value of each current position.
 
         Random rd = new Random();
         // Intialize Velocities, positions, pBest and gBest
@@ -76,8 +77,8 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
                 v[i][j] = rd.nextDouble(0.5, 2) * (rd.nextBoolean() ? 1 : -1);
                 pBest[i][j] = swarm[i][j];
             }
-            fitnessPBest[i] = CostCalculator.calculateTotalCost(pBest[i], tasks, employees);
         }
+        populationEvaluator.evaluate(pBest, fitnessPBest);
         gBestData = findGbest(gBestData, fitnessPBest, pBest);
         int n = 0;
 
@@ -98,10 +99,13 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
                     v[i][j] = calculateVelocity(gBestData.gBestArr[j], pBest[i][j], v[i][j], swarm[i][j]);
                     swarm[i][j] = calculatePosition(v[i][j], swarm[i][j], j);
                 }
-                // Find pBest
-                double newCost = CostCalculator.calculateTotalCost(swarm[i], tasks, employees);
-                if (newCost <= fitnessPBest[i]) {
-                    fitnessPBest[i] = newCost;
+            }
+
+            // Score the whole swarm at once, then find pBest
+            populationEvaluator.evaluate(swarm, newCosts);
+            for (int i = 0; i < populationSize; i++) {
+                if (newCosts[i] <= fitnessPBest[i]) {
+                    fitnessPBest[i] = newCosts[i];
                     pBest[i] = swarm[i].clone();
                 }
             }
@@ -112,8 +116,7 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
             // Log metrics for this generation
             performanceLogger.logIteration(
                     n,
-                    gBestData.gBestArr,
-                    gBestData.gBest,
+                    bestBreakdown,
                     PerformanceLogger.getCurrentMemoryUsageMB());
         }
 
@@ -146,56 +149,51 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
     }
 
     private int calculatePosition(double velocity, int currentPos, int taskId) {
-        int size = employees.size();
-        Task task = tasks.get(taskId);
-
-        List<Integer> compatibleEmployees = new ArrayList<>();
-        int i = 0;
-        for (Employee employee : employees) {
-            if (currentPos == i) {
-                i++;
-                continue;
-            }
-            if (employee.hasSkill(task.getRequiredSkill()) &&
-                    employee.getSkillLevel() >= task.getDifficulty()) {
-                compatibleEmployees.add(i);
-            }
-            i++;
-        }
+        int size = problem.getNumEmployees();
 
         int move = (int) Math.round(velocity); // Step direction
 
-        if (compatibleEmployees.isEmpty()) {
-            return currentPos;
-        }
-
-        return findClosest(compatibleEmployees, Math.floorMod(move + currentPos, size));
+        return findClosest(problem.getCompatibility(), taskId, currentPos, Math.floorMod(move + currentPos, size));
     }
 
-    private int findClosest(List<Integer> arr, int target) {
-        int res = arr.getFirst();
-        int lo = 0, hi = arr.size() - 1;
-
-        while (lo <= hi) {
-            int mid = lo + (hi - lo) / 2;
-
-            if (Math.abs(arr.get(mid) - target) < Math.abs(res - target)) {
-                res = arr.get(mid);
-
-            } else if (Math.abs(arr.get(mid) - target) == Math.abs(res - target)) {
-                res = Math.max(res, arr.get(mid));
-            }
-
-            if (arr.get(mid) == target) {
-                return arr.get(mid);
-            } else if (arr.get(mid) < target) {
+    /**
+     * Finds the compatible employee closest to the target position, ignoring the current position.
+     * Ties go to the larger index. If no other compatible employee exists the current position is kept.
+     */
+    private int findClosest(CompatibilityIndex compatibility, int taskId, int currentPos, int target) {
+        int count = compatibility.count(taskId);
+
+        // Binary search for the first compatible employee at or above the target
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compatibility.employeeAt(taskId, mid) < target) {
                 lo = mid + 1;
             } else {
-                hi = mid - 1;
+                hi = mid;
             }
         }
 
-        return res;
+        int above = lo;
+        if (above < count && compatibility.employeeAt(taskId, above) == currentPos) {
+            above++;
+        }
+        int below = lo - 1;
+        if (below >= 0 && compatibility.employeeAt(taskId, below) == currentPos) {
+            below--;
+        }
+
+        if (above >= count && below < 0) {
+            return currentPos;
+        } else if (above >= count) {
+            return compatibility.employeeAt(taskId, below);
+        } else if (below < 0) {
+            return compatibility.employeeAt(taskId, above);
+        }
+
+        int upper = compatibility.employeeAt(taskId, above);
+        int lower = compatibility.employeeAt(taskId, below);
+        return (upper - target <= target - lower) ? upper : lower;
     }
 
     private GBestData findGbest(GBestData currGBest, double[] fitnesspBest, int[][] pBest) {
@@ -209,6 +207,10 @@ public class ParticleSwarmAlg extends AbstractOptimisationAlgorithm {
             }
         }
 
+        if (lastgBestUpdate == 0) {
+            updateBestBreakdown(currGBest.gBestArr);
+        }
+
         return currGBest;
     }
 
@@ -0,0 +1,378 @@
+package Algorithms;
+
+import Model.CompatibilityIndex;
+import Model.ProblemInstance;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Pheromone values of task and employee pairings.
+ * Rows are segments of one flat array. A dense matrix stores every pairing and draws from a
+ * row by a linear roulette wheel, O(E). A sparse matrix stores, in compressed rows, only the
+ * pairings of compatible employees, whose pheromone is the only one that can ever be non-zero,
+ * and keeps a full row only for tasks no employee is compatible with; it also keeps a Fenwick
+ * tree over each row so that a deposit and a roulette draw both cost O(log E). The tree is not
+ * kept for a dense matrix, where it would double the memory of the largest instances.
+ * Pairings that are not stored have a pheromone of 0.
+ * Values are stored relative to a global scale factor, so the true pheromone of a pairing is
+ * its stored value times the scale. Evaporation can then either multiply every row (eager)
+ * or just the scale (lazy, O(1)); the stored values are folded back to a scale of 1 only
+ * when the scale nears underflow. Roulette probabilities do not depend on the scale.
+ * Rows may be decayed and deposited on from different threads as long as each row is
+ * written by one thread at a time.
+ */
+final class PheromoneMatrix
+{
+    // Below this the stored values are renormalised; deposits are divided by the scale
+    private static final double MIN_SCALE = 1e-100;
+
+    // Memory per stored pairing: a dense one is its value, a sparse one its value, tree node and column
+    static final int DENSE_PAIR_BYTES = Double.BYTES;
+    static final int SPARSE_PAIR_BYTES = 2 * Double.BYTES + Integer.BYTES;
+
+    private final int numTasks;
+    private final int numEmployees;
+
+    // Row t is stored at [rowStart[t], rowStart[t + 1]); columns maps a stored position to its
+    // employee and is null for a dense matrix, where the position within a row is the employee
+    private final int[] rowStart;
+    private final int[] columns;
+
+    private final double[] values;   // stored pheromone, true value = stored * scale
+    private final double[] tree;     // Fenwick tree over each row of stored values, null if dense
+    private double scale = 1.0;
+
+    private PheromoneMatrix(int numTasks, int numEmployees, int[] rowStart, int[] columns)
+    {
+        this.numTasks = numTasks;
+        this.numEmployees = numEmployees;
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.values = new double[rowStart[numTasks]];
+        this.tree = columns == null ? null : new double[rowStart[numTasks]];
+    }
+
+    /**
+     * Picks the storage for an instance: sparse when the compatible pairings, plus full rows
+     * for tasks without any, take no more memory than a dense matrix. As a sparse pairing
+     * costs {@link #SPARSE_PAIR_BYTES} against {@link #DENSE_PAIR_BYTES}, that is when at
+     * most 40% of all pairings are stored.
+     *
+     * @param problem The compiled problem instance
+     * @return An all-zero pheromone matrix for the instance
+     */
+    static PheromoneMatrix forProblem(ProblemInstance problem)
+    {
+        long allPairs = (long) problem.getNumTasks() * problem.getNumEmployees();
+        return sparseSize(problem) * SPARSE_PAIR_BYTES <= allPairs * DENSE_PAIR_BYTES
+                ? sparse(problem) : dense(problem);
+    }
+
+    /**
+     * @return An all-zero matrix storing every pairing, without trees
+     */
+    static PheromoneMatrix dense(ProblemInstance problem)
+    {
+        int numTasks = problem.getNumTasks();
+        int numEmployees = problem.getNumEmployees();
+        int[] rowStart = new int[numTasks + 1];
+        for (int t = 0; t <= numTasks; t++)
+        {
+            rowStart[t] = Math.toIntExact((long) t * numEmployees);
+        }
+        return new PheromoneMatrix(numTasks, numEmployees, rowStart, null);
+    }
+
+    /**
+     * @return An all-zero matrix storing the compatible pairings, and every pairing of tasks
+     *         no employee is compatible with
+     */
+    static PheromoneMatrix sparse(ProblemInstance problem)
+    {
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        int numTasks = problem.getNumTasks();
+        int numEmployees = problem.getNumEmployees();
+        int[] rowStart = new int[numTasks + 1];
+        int[] columns = new int[Math.toIntExact(sparseSize(problem))];
+
+        int pos = 0;
+        for (int t = 0; t < numTasks; t++)
+        {
+            rowStart[t] = pos;
+            int count = compatibility.count(t);
+            if (count == 0)
+            {
+                for (int e = 0; e < numEmployees; e++)
+                {
+                    columns[pos++] = e;
+                }
+            }
+            else
+            {
+                for (int k = 0; k < count; k++)
+                {
+                    columns[pos++] = compatibility.employeeAt(t, k);
+                }
+            }
+        }
+        rowStart[numTasks] = pos;
+        return new PheromoneMatrix(numTasks, numEmployees, rowStart, columns);
+    }
+
+    /**
+     * @return The number of pairings a sparse matrix of the instance stores
+     */
+    private static long sparseSize(ProblemInstance problem)
+    {
+        CompatibilityIndex compatibility = problem.getCompatibility();
+        long size = 0;
+        for (int t = 0; t < problem.getNumTasks(); t++)
+        {
+            int count = compatibility.count(t);
+            size += count == 0 ? problem.getNumEmployees() : count;
+        }
+        return size;
+    }
+
+    /**
+     * @return True if only the compatible pairings are stored
+     */
+    boolean isSparse()
+    {
+        return columns != null;
+    }
+
+    /**
+     * @return The number of pairings stored
+     */
+    int storedPairs()
+    {
+        return values.length;
+    }
+
+    /**
+     * Sets every stored pheromone of a task's row; the row's tree is rebuilt by {@link #build(int)}.
+     */
+    void fillRow(int task, double pheromone)
+    {
+        Arrays.fill(values, rowStart[task], rowStart[task + 1], pheromone / scale);
+    }
+
+    /**
+     * Sets one pheromone; the row's tree is rebuilt by {@link #build(int)}.
+     * Pairings that are not stored keep a pheromone of 0.
+     */
+    void set(int task, int employee, double pheromone)
+    {
+        int pos = position(task, employee);
+        if (pos != -1)
+        {
+            values[pos] = pheromone / scale;
+        }
+    }
+
+    /**
+     * Rebuilds the tree of a task's row from its stored values in linear time; a dense
+     * matrix has nothing to rebuild.
+     */
+    void build(int task)
+    {
+        if (tree == null)
+        {
+            return;
+        }
+        int start = rowStart[task];
+        int width = rowStart[task + 1] - start;
+        System.arraycopy(values, start, tree, start, width);
+        for (int i = 0; i < width; i++)
+        {
+            int parent = i | (i + 1);
+            if (parent < width)
+            {
+                tree[start + parent] += tree[start + i];
+            }
+        }
+    }
+
+    /**
+     * @return The true pheromone of the pairing
+     */
+    double get(int task, int employee)
+    {
+        int pos = position(task, employee);
+        return pos == -1 ? 0.0 : values[pos] * scale;
+    }
+
+    /**
+     * Adds pheromone to one pairing. Pairings that are not stored keep a pheromone of 0;
+     * ants never choose them.
+     */
+    void deposit(int task, int employee, double pheromone)
+    {
+        deposit(task, employee, pheromone, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Adds pheromone to one pairing, capping the result at a maximum.
+     */
+    void deposit(int task, int employee, double pheromone, double max)
+    {
+        int pos = position(task, employee);
+        if (pos == -1)
+        {
+            return;
+        }
+        double stored = pheromone / scale;
+        if (values[pos] + stored > max / scale)
+        {
+            stored = max / scale - values[pos];
+        }
+        values[pos] += stored;
+        if (tree == null)
+        {
+            return;
+        }
+        int start = rowStart[task];
+        int width = rowStart[task + 1] - start;
+        for (int i = pos - start; i < width; i |= i + 1)
+        {
+            tree[start + i] += stored;
+        }
+    }
+
+    /**
+     * Eager evaporation of the rows of the tasks in [from, to); trees are sums of the row, so
+     * scaling them keeps them exact.
+     */
+    void evaporateRows(int from, int to, double keep)
+    {
+        for (int pos = rowStart[from]; pos < rowStart[to]; pos++)
+        {
+            values[pos] *= keep;
+        }
+        if (tree != null)
+        {
+            for (int pos = rowStart[from]; pos < rowStart[to]; pos++)
+            {
+                tree[pos] *= keep;
+            }
+        }
+    }
+
+    /**
+     * Eager evaporation of the rows of the tasks in [from, to) that keeps every stored
+     * pheromone at or above a minimum. The floor is not linear, so the rows' trees are rebuilt.
+     */
+    void evaporateRows(int from, int to, double keep, double min)
+    {
+        double storedMin = min / scale;
+        for (int pos = rowStart[from]; pos < rowStart[to]; pos++)
+        {
+            values[pos] = Math.max(values[pos] * keep, storedMin);
+        }
+        for (int task = from; task < to; task++)
+        {
+            build(task);
+        }
+    }
+
+    /**
+     * Lazy evaporation of every row at once by shrinking the scale. Not to be called while
+     * rows are being written.
+     */
+    void evaporate(double keep)
+    {
+        scale *= keep;
+        if (scale < MIN_SCALE)
+        {
+            evaporateRows(0, numTasks, scale);
+            scale = 1.0;
+        }
+    }
+
+    /**
+     * Roulette wheel over a task's row: picks an employee with probability proportional to
+     * its pheromone by descending the row's tree, or by scanning the row if dense.
+     *
+     * @return The chosen employee; uniformly random among the stored pairings if they are all 0
+     */
+    int sample(int task, SplittableRandom random)
+    {
+        if (tree == null)
+        {
+            return scan(task, random);
+        }
+        int start = rowStart[task];
+        int width = rowStart[task + 1] - start;
+        double total = 0;
+        for (int i = width - 1; i >= 0; i = (i & (i + 1)) - 1)
+        {
+            total += tree[start + i];
+        }
+        double choice = random.nextDouble() * total;
+        if (!(choice < total))
+        {
+            return employeeAt(start + random.nextInt(width));
+        }
+
+        // Largest prefix of the row whose sum does not exceed the choice
+        int pos = 0;
+        for (int step = Integer.highestOneBit(width); step > 0; step >>>= 1)
+        {
+            int next = pos + step;
+            if (next <= width && tree[start + next - 1] <= choice)
+            {
+                pos = next;
+                choice -= tree[start + next - 1];
+            }
+        }
+        return employeeAt(start + Math.min(pos, width - 1));
+    }
+
+    /**
+     * Linear roulette wheel over a dense row.
+     */
+    private int scan(int task, SplittableRandom random)
+    {
+        int start = rowStart[task];
+        int end = rowStart[task + 1];
+        double total = 0;
+        for (int pos = start; pos < end; pos++)
+        {
+            total += values[pos];
+        }
+        double choice = random.nextDouble() * total;
+        if (!(choice < total))
+        {
+            return random.nextInt(numEmployees);
+        }
+        for (int pos = start; pos < end - 1; pos++)
+        {
+            choice -= values[pos];
+            if (choice < 0)
+            {
+                return pos - start;
+            }
+        }
+        return numEmployees - 1;
+    }
+
+    private int employeeAt(int pos)
+    {
+        return columns == null ? pos % numEmployees : columns[pos];
+    }
+
+    /**
+     * @return The stored position of the pairing, or -1 if it is not stored
+     */
+    private int position(int task, int employee)
+    {
+        if (columns == null)
+        {
+            return rowStart[task] + employee;
+        }
+        int pos = Arrays.binarySearch(columns, rowStart[task], rowStart[task + 1], employee);
+        return pos < 0 ? -1 : pos;
+    }
+}
@@ -0,0 +1,157 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates whole populations at once.
+ * The population is split into chunks that are scored on a fork-join pool. Each worker
+ * scores its chunk with the evaluator's {@link CostFunction}, which keeps its own per-thread
+ * scratch buffer, so workers share nothing but the read-only problem instance.
+ */
+public final class PopulationEvaluator
+{
+    public static final int DEFAULT_CHUNK_SIZE = 8;
+
+    private final ProblemInstance problem;
+    private final CostFunction costFunction;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates an evaluator that runs on the common fork-join pool with the backend
+     * chosen by {@link CostFunction#forProblem(ProblemInstance)}.
+     *
+     * @param problem The compiled problem instance
+     */
+    public PopulationEvaluator(ProblemInstance problem)
+    {
+        this(problem, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param problem   The compiled problem instance
+     * @param pool      The pool the chunks are run on, or null to score on the calling thread
+     * @param chunkSize The number of solutions a single task scores; smaller batches run on the caller
+     */
+    public PopulationEvaluator(ProblemInstance problem, ForkJoinPool pool, int chunkSize)
+    {
+        this(problem, pool, chunkSize, CostFunction.forProblem(problem));
+    }
+
+    /**
+     * @param problem      The compiled problem instance
+     * @param pool         The pool the chunks are run on, or null to score on the calling thread
+     * @param chunkSize    The number of solutions a single task scores; smaller batches run on the caller
+     * @param costFunction The backend each solution is scored with
+     */
+    public PopulationEvaluator(ProblemInstance problem, ForkJoinPool pool, int chunkSize, CostFunction costFunction)
+    {
+        if (chunkSize < 1)
+        {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.problem = problem;
+        this.costFunction = costFunction;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Scores every solution in the population.
+     *
+     * @param population The solutions to evaluate
+     * @param costs      Receives the cost of population[i] at costs[i]
+     */
+    public void evaluate(int[][] population, double[] costs)
+    {
+        evaluate(population, 0, population.length, costs);
+    }
+
+    /**
+     * Scores the solutions in population[from, to).
+     *
+     * @param population The solutions to evaluate
+     * @param from       First index to score (inclusive)
+     * @param to         Last index to score (exclusive)
+     * @param costs      Receives the cost of population[i] at costs[i]
+     */
+    public void evaluate(int[][] population, int from, int to, double[] costs)
+    {
+        if (pool == null || to - from <= chunkSize || pool.getParallelism() <= 1)
+        {
+            evaluateRange(population, from, to, costs);
+        }
+        else
+        {
+            pool.invoke(new EvaluateChunk(population, from, to, costs));
+        }
+    }
+
+    /**
+     * @param pool The pool the chunks are run on, or null to score on the calling thread
+     * @return An evaluator with the same backend and chunk size on another pool
+     */
+    public PopulationEvaluator withPool(ForkJoinPool pool)
+    {
+        return new PopulationEvaluator(problem, pool, chunkSize, costFunction);
+    }
+
+    public ForkJoinPool getPool()
+    {
+        return pool;
+    }
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    public CostFunction getCostFunction()
+    {
+        return costFunction;
+    }
+
+    private void evaluateRange(int[][] population, int from, int to, double[] costs)
+    {
+        for (int i = from; i < to; i++)
+        {
+            costs[i] = costFunction.evaluate(population[i], problem);
+        }
+    }
+
+    /**
+     * Splits the range in half until it fits in a chunk.
+     */
+    @SuppressWarnings("serial") // never serialised, only run on a fork-join pool
+    private final class EvaluateChunk extends RecursiveAction
+    {
+        private final int[][] population;
+        private final int from;
+        private final int to;
+        private final double[] costs;
+
+        EvaluateChunk(int[][] population, int from, int to, double[] costs)
+        {
+            this.population = population;
+            this.from = from;
+            this.to = to;
+            this.costs = costs;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= chunkSize)
+            {
+                evaluateRange(population, from, to, costs);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateChunk(population, from, mid, costs),
+                    new EvaluateChunk(population, mid, to, costs));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package Algorithms;
+
+/**
+ * 64-bit Zobrist style fingerprints of solutions.
+ * A fingerprint is the XOR of one pseudo random key per (task, employee) assignment, so
+ * reassigning a single task updates it in constant time. Keys are derived on the fly with
+ * the SplitMix64 finaliser instead of being stored in a tasks x employees table.
+ */
+public final class SolutionFingerprint
+{
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private SolutionFingerprint()
+    {
+    }
+
+    /**
+     * @return The key for assigning the task to the employee
+     */
+    public static long key(int task, int employee)
+    {
+        long z = (((long) task << 32) | (employee & 0xFFFFFFFFL)) + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Computes the fingerprint of a whole solution.
+     *
+     * @param solution The Solution to fingerprint
+     * @return The fingerprint
+     */
+    public static long of(int[] solution)
+    {
+        long fingerprint = 0;
+        for (int task = 0; task < solution.length; task++)
+        {
+            fingerprint ^= key(task, solution[task]);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Updates a fingerprint for a single task reassignment.
+     *
+     * @param fingerprint The fingerprint before the move
+     * @param task        The reassigned task
+     * @param oldEmployee The employee the task was assigned to
+     * @param newEmployee The employee the task is now assigned to
+     * @return The fingerprint after the move
+     */
+    public static long update(long fingerprint, int task, int oldEmployee, int newEmployee)
+    {
+        if (oldEmployee == newEmployee)
+        {
+            return fingerprint;
+        }
+        return fingerprint ^ key(task, oldEmployee) ^ key(task, newEmployee);
+    }
+}
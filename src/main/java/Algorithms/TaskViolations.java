@@ -0,0 +1,87 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+
+/**
+ * Per-task attribution of the penalties of one evaluated solution.
+ * Records which constraints each task violates, the list of violating tasks and the
+ * workload of every employee. Filled by {@link CostKernel#evaluate(int[], ProblemInstance, TaskViolations)}
+ * and meant to be reused between evaluations, so producing one allocates nothing.
+ */
+public final class TaskViolations
+{
+    // Violation flags of a task
+    public static final int SKILL_MISMATCH = 1;
+    public static final int SKILL_LEVEL = 1 << 1;
+    public static final int OVERLOADED = 1 << 2;
+    public static final int LATE = 1 << 3;
+    public static final int UNASSIGNED = 1 << 4;
+
+    private final byte[] flags;
+    private final int[] violating;
+    private int violatingCount;
+    private final int[] workload;
+
+    /**
+     * @param problem The compiled problem instance the solutions belong to
+     */
+    public TaskViolations(ProblemInstance problem)
+    {
+        this.flags = new byte[problem.getNumTasks()];
+        this.violating = new int[problem.getNumTasks()];
+        this.workload = new int[problem.getNumEmployees()];
+    }
+
+    /**
+     * @return The violation flags of the task, 0 if it violates nothing
+     */
+    public int getFlags(int task)
+    {
+        return flags[task];
+    }
+
+    /**
+     * @return The number of tasks that violate at least one constraint
+     */
+    public int getViolatingCount()
+    {
+        return violatingCount;
+    }
+
+    /**
+     * @param index Position in the list, between 0 and getViolatingCount() - 1
+     * @return The violating task at that position, in deadline order
+     */
+    public int getViolatingTask(int index)
+    {
+        return violating[index];
+    }
+
+    /**
+     * @return The hours assigned to the employee
+     */
+    public int getWorkload(int employee)
+    {
+        return workload[employee];
+    }
+
+    byte[] flags()
+    {
+        return flags;
+    }
+
+    int[] violating()
+    {
+        return violating;
+    }
+
+    int[] workload()
+    {
+        return workload;
+    }
+
+    void setViolatingCount(int violatingCount)
+    {
+        this.violatingCount = violatingCount;
+    }
+}
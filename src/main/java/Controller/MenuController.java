@@ -28,8 +28,22 @@ public class MenuController {
     private double GA_CROSSOVER_DEFAULT = 0.2;
     private double GA_MUTATION_DEFAULT = 0.1;
     private int GA_ELITISM_DEFAULT = 2;
+    private GeneticAlg.SelectionMethod GA_SELECTION_DEFAULT = GeneticAlg.SelectionMethod.TOURNAMENT;
+    private int GA_TOURNAMENT_SIZE_DEFAULT = 3;
+    private boolean GA_STEADY_STATE_DEFAULT = false;
+    private GeneticAlg.ReplacementMethod GA_REPLACEMENT_DEFAULT = GeneticAlg.ReplacementMethod.WORST;
+    private double GA_LOCAL_SEARCH_RATE_DEFAULT = 0.0;
+    private GeneticAlg.DuplicatePolicy GA_DUPLICATE_POLICY_DEFAULT = GeneticAlg.DuplicatePolicy.ALLOW;
+    private GeneticAlg.MutationMethod GA_MUTATION_METHOD_DEFAULT = GeneticAlg.MutationMethod.UNIFORM;
     // private int GA_RUN_ID = 0;
 
+    // Island GA (also uses the GA defaults)
+    private boolean IGA_INCLUDE_DEFAULT = false;
+    private int IGA_ISLANDS_DEFAULT = 4;
+    private int IGA_MIGRATION_INTERVAL_DEFAULT = 10;
+    private int IGA_MIGRANT_COUNT_DEFAULT = 2;
+    private IslandGeneticAlg.MigrationTopology IGA_TOPOLOGY_DEFAULT = IslandGeneticAlg.MigrationTopology.RING;
+
     // PS (None)
     private double PSO_INERTIA_WEIGHT = 0.5;
     private double PSO_PBEST_W = 1.5;
@@ -40,6 +54,8 @@ public class MenuController {
     // AC
     private double ACO_DECAY_RATE_DEFAULT = 0.1;
     private double ACO_INITIAL_PHEROMONE_DEFAULT = 0.1;
+    private boolean ACO_LAZY_EVAPORATION_DEFAULT = false;
+    private boolean ACO_MAX_MIN_DEFAULT = false;
     // private int AC_RUN_ID = 0;
 
     // ALL
@@ -48,6 +64,8 @@ public class MenuController {
     private int REPORTING_FREQUENCY_DEFAULT = 5;
     private boolean FILE_OUTPUT_DEFAULT = true;
     private int TRIAL_NUMBER_DEFAULT = 1;
+    private int THREADS_DEFAULT = 1;
+    private int SEED_DEFAULT = -1; // -1 for an unseeded run
     // private int ALL_RUN_ID = 1;
 
     /**
@@ -350,30 +368,48 @@ public class MenuController {
         notifyObservers("INFO", "RUNNING TRIALS",
                 "Running " + TRIAL_NUMBER_DEFAULT + " trials of " + algorithmType + "...");
 
+        AlgorithmFactory factory = new AlgorithmFactory(tasks, employees, observers);
+        AlgParameters options = currentParameters();
         for (int i = 0; i < TRIAL_NUMBER_DEFAULT; i++) {
             // Create and run algorithm with this run ID
             switch (algorithmType) {
                 case "GeneticAlg" -> {
                     notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
-                    GeneticAlg ga = new AlgorithmFactory(tasks, employees, observers)
+                    GeneticAlg ga = factory
                             .createGeneticAlgorithm(POPULATION_SIZE_DEFAULT, GA_CROSSOVER_DEFAULT,
                                     GA_MUTATION_DEFAULT, GA_ELITISM_DEFAULT,
                                     MAX_GEN_DEFAULT, REPORTING_FREQUENCY_DEFAULT,
                                     FILE_OUTPUT_DEFAULT, currentRunId);
                     // notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
 
+                    factory.configureGeneticAlgorithm(ga, options);
+
                     AlgParameters params = new AlgParameters(ga);
                     ga.setLoggerParameters(params);
                     runMenu(ga, "Genetic Algorithm (Trial " + currentRunId + ")");
                 }
+                case "IslandGeneticAlg" -> {
+                    notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
+                    IslandGeneticAlg iga = factory
+                            .createIslandGeneticAlgorithm(POPULATION_SIZE_DEFAULT, GA_CROSSOVER_DEFAULT,
+                                    GA_MUTATION_DEFAULT, GA_ELITISM_DEFAULT,
+                                    MAX_GEN_DEFAULT, REPORTING_FREQUENCY_DEFAULT,
+                                    FILE_OUTPUT_DEFAULT, currentRunId, IGA_ISLANDS_DEFAULT,
+                                    IGA_MIGRATION_INTERVAL_DEFAULT, IGA_MIGRANT_COUNT_DEFAULT, IGA_TOPOLOGY_DEFAULT);
+                    factory.configureIslandGeneticAlgorithm(iga, options);
+                    AlgParameters params = new AlgParameters(iga);
+                    iga.setLoggerParameters(params);
+                    runMenu(iga, "Island Genetic Algorithm (Trial " + currentRunId + ")");
+                }
                 case "AntColonyAlg" -> {
                     notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
-                    AntColAlg ac = new AlgorithmFactory(tasks, employees, observers)
+                    AntColAlg ac = factory
                             .createAntColonyOptimisation(POPULATION_SIZE_DEFAULT, ACO_DECAY_RATE_DEFAULT,
                                     ACO_INITIAL_PHEROMONE_DEFAULT,
                                     MAX_GEN_DEFAULT, REPORTING_FREQUENCY_DEFAULT,
                                     FILE_OUTPUT_DEFAULT, currentRunId);
                     // notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
+                    factory.configureAntColonyOptimisation(ac, options);
                     AlgParameters params = new AlgParameters(ac);
                     ac.setLoggerParameters(params);
                     runMenu(ac, "Ant Colony Algorithm (Trial " + currentRunId + ")");
@@ -391,7 +427,7 @@ public class MenuController {
                 }
                 case "All" -> {
                     notifyObservers("ISRUNALL", "true", String.valueOf(currentRunId));
-                    Map<String, AbstractOptimisationAlgorithm> algs = new AlgorithmFactory(tasks, employees, observers)
+                    Map<String, AbstractOptimisationAlgorithm> algs = factory
                             .createStandardisedAlgorithms(
                                     POPULATION_SIZE_DEFAULT, MAX_GEN_DEFAULT,
                                     REPORTING_FREQUENCY_DEFAULT, FILE_OUTPUT_DEFAULT,
@@ -400,6 +436,19 @@ public class MenuController {
                                     PSO_GBEST_W,
                                     PSO_INERTIA_WEIGHT,
                                     currentRunId);
+                    factory.configureGeneticAlgorithm((GeneticAlg) algs.get("GeneticAlg"), options);
+                    factory.configureAntColonyOptimisation((AntColAlg) algs.get("AntColonyAlg"), options);
+                    if (IGA_INCLUDE_DEFAULT) {
+                        IslandGeneticAlg iga = factory
+                                .createIslandGeneticAlgorithm(POPULATION_SIZE_DEFAULT, GA_CROSSOVER_DEFAULT,
+                                        GA_MUTATION_DEFAULT, GA_ELITISM_DEFAULT,
+                                        MAX_GEN_DEFAULT, REPORTING_FREQUENCY_DEFAULT,
+                                        FILE_OUTPUT_DEFAULT, currentRunId, IGA_ISLANDS_DEFAULT,
+                                        IGA_MIGRATION_INTERVAL_DEFAULT, IGA_MIGRANT_COUNT_DEFAULT,
+                                        IGA_TOPOLOGY_DEFAULT);
+                        factory.configureIslandGeneticAlgorithm(iga, options);
+                        algs.put("IslandGeneticAlg", iga);
+                    }
                     for (AbstractOptimisationAlgorithm alg : algs.values()) {
                         AlgParameters params = new AlgParameters(alg);
                         alg.setLoggerParameters(params);
@@ -407,6 +456,10 @@ public class MenuController {
 
                     runMenu(algs.get("AntColonyAlg"), "Ant Colony Algorithm (Trial " + currentRunId + ")");
                     runMenu(algs.get("GeneticAlg"), "Genetic Algorithm (Trial " + currentRunId + ")");
+                    if (algs.containsKey("IslandGeneticAlg")) {
+                        runMenu(algs.get("IslandGeneticAlg"),
+                                "Island Genetic Algorithm (Trial " + currentRunId + ")");
+                    }
                     runMenu(algs.get("ParticleSwarmAlg"), "Particle Swarm Algorithm (Trial " + currentRunId + ")");
 
                     notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
@@ -436,7 +489,8 @@ public class MenuController {
 
                 int choice = consoleObserver.requestInput("CHOOSE ALGORITHM",
                         "Select an Algorithm to run",
-                        new String[] { "Exit", "Genetic Algorithm", "Swarm Optimisation", "Ant Colony", "All" });
+                        new String[] { "Exit", "Genetic Algorithm", "Swarm Optimisation", "Ant Colony", "All",
+                                "Island Genetic Algorithm" });
 
                 switch (choice) {
                     case 0:
@@ -454,6 +508,9 @@ public class MenuController {
                     case 4:
                         runStandardisedMenu();
                         break;
+                    case 5:
+                        runIslandGeneticAlgMenu();
+                        break;
                     default:
                         break;
                 }
@@ -533,6 +590,8 @@ public class MenuController {
                             "(Genetic) Crossover Rate: " + GA_CROSSOVER_DEFAULT,
                             "(Genetic) Mutation Rate: " + GA_MUTATION_DEFAULT,
                             "(Genetic) Elitism Count: " + GA_ELITISM_DEFAULT,
+                            "(Island Genetic) Include in Run: " + IGA_INCLUDE_DEFAULT,
+                            "(Island Genetic) Number of Islands: " + IGA_ISLANDS_DEFAULT,
                             "(Particle Swarm) Personal Best Weight: " + PSO_PBEST_W,
                             "(Particle Swarm) Global Best Weight: " + PSO_GBEST_W,
                             "(Paritcle Swarm) Inertia Weight: " + PSO_INERTIA_WEIGHT,
@@ -562,35 +621,48 @@ public class MenuController {
                     GA_ELITISM_DEFAULT = getParameter("Elitsim Count", GA_ELITISM_DEFAULT, 0, employees.size());
                     break;
                 case 5:
-                    PSO_PBEST_W = getParameter("Personal Best Weight", PSO_PBEST_W, 0.0, 10.0);
+                    IGA_INCLUDE_DEFAULT = getParameter("Include Island Genetic", IGA_INCLUDE_DEFAULT);
                     break;
                 case 6:
-                    PSO_GBEST_W = getParameter("Global Best Weight", PSO_GBEST_W, 0.0, 10.0);
+                    IGA_ISLANDS_DEFAULT = getParameter("Number of Islands", IGA_ISLANDS_DEFAULT, 1,
+                            Integer.MAX_VALUE);
                     break;
                 case 7:
-                    PSO_INERTIA_WEIGHT = getParameter("Intertia Weight", PSO_INERTIA_WEIGHT, 0, 1.0);
+                    PSO_PBEST_W = getParameter("Personal Best Weight", PSO_PBEST_W, 0.0, 10.0);
                     break;
                 case 8:
-                    ACO_DECAY_RATE_DEFAULT = getParameter("Pheromone Decay Rate", ACO_DECAY_RATE_DEFAULT, 0.0, 1.0);
+                    PSO_GBEST_W = getParameter("Global Best Weight", PSO_GBEST_W, 0.0, 10.0);
                     break;
                 case 9:
+                    PSO_INERTIA_WEIGHT = getParameter("Intertia Weight", PSO_INERTIA_WEIGHT, 0, 1.0);
+                    break;
+                case 10:
+                    double decayRate = getParameter("Pheromone Decay Rate", ACO_DECAY_RATE_DEFAULT, 0.0, 1.0);
+                    if (ACO_MAX_MIN_DEFAULT && !(decayRate > 0)) {
+                        notifyObservers("ERROR", "Invalid Pheromone Decay Rate",
+                                "MAX-MIN Ant System needs a positive pheromone decay rate");
+                    } else {
+                        ACO_DECAY_RATE_DEFAULT = decayRate;
+                    }
+                    break;
+                case 11:
                     ACO_INITIAL_PHEROMONE_DEFAULT = getParameter("Initial Pheromone Value",
                             ACO_INITIAL_PHEROMONE_DEFAULT, 0.0, Double.MAX_VALUE);
                     break;
-                case 10:
+                case 12:
                     MAX_GEN_DEFAULT = getParameter("Maximum Iterations", MAX_GEN_DEFAULT, 1, Integer.MAX_VALUE);
                     break;
-                case 11:
+                case 13:
                     REPORTING_FREQUENCY_DEFAULT = getParameter("Reporting Frequency", REPORTING_FREQUENCY_DEFAULT,
                             1, Integer.MAX_VALUE);
                     break;
-                case 12:
+                case 14:
                     FILE_OUTPUT_DEFAULT = getParameter("Output to File", FILE_OUTPUT_DEFAULT);
                     break;
-                case 13:
+                case 15:
                     TRIAL_NUMBER_DEFAULT = getParameter("Number of Trials", TRIAL_NUMBER_DEFAULT, 1, Integer.MAX_VALUE);
                     break;
-                case 14:
+                case 16:
                     fileOutput.isRunAll = true;
                     runMenuMultiple("All");
                     fileOutput.isRunAll = false;
@@ -643,6 +715,10 @@ public class MenuController {
                     notifyObservers("ISRUNALL", "true", String.valueOf(currentRunId));
                     runMenu(algs.get("AntColonyAlg"), "Ant Colony Algorithm (Trial " + currentRunId + ")");
                     runMenu(algs.get("GeneticAlg"), "Genetic Algorithm (Trial " + currentRunId + ")");
+                    if (algs.containsKey("IslandGeneticAlg")) {
+                        runMenu(algs.get("IslandGeneticAlg"),
+                                "Island Genetic Algorithm (Trial " + currentRunId + ")");
+                    }
                     runMenu(algs.get("ParticleSwarmAlg"), "Particle Swarm Algorithm (Trial " + currentRunId + ")");
                     notifyObservers("ISRUNALL", "false", String.valueOf(currentRunId));
                 }
@@ -671,6 +747,10 @@ public class MenuController {
                             "Reporting Frequency: " + REPORTING_FREQUENCY_DEFAULT,
                             "Output to File: " + FILE_OUTPUT_DEFAULT,
                             "Number of Trials: " + TRIAL_NUMBER_DEFAULT,
+                            "Threads: " + THREADS_DEFAULT,
+                            "Random seed (-1 for none): " + SEED_DEFAULT,
+                            "Lazy evaporation: " + ACO_LAZY_EVAPORATION_DEFAULT,
+                            "MAX-MIN Ant System: " + ACO_MAX_MIN_DEFAULT,
                             "Proceed" });
 
             switch (choice) {
@@ -682,7 +762,13 @@ public class MenuController {
                             Integer.MAX_VALUE);
                     break;
                 case 2:
-                    ACO_DECAY_RATE_DEFAULT = getParameter("Pheromone Decay Rate", ACO_DECAY_RATE_DEFAULT, 0.0, 1.0);
+                    double decayRate = getParameter("Pheromone Decay Rate", ACO_DECAY_RATE_DEFAULT, 0.0, 1.0);
+                    if (ACO_MAX_MIN_DEFAULT && !(decayRate > 0)) {
+                        notifyObservers("ERROR", "Invalid Pheromone Decay Rate",
+                                "MAX-MIN Ant System needs a positive pheromone decay rate");
+                    } else {
+                        ACO_DECAY_RATE_DEFAULT = decayRate;
+                    }
                     break;
                 case 3:
                     ACO_INITIAL_PHEROMONE_DEFAULT = getParameter("Initial Pheromone Value",
@@ -702,7 +788,26 @@ public class MenuController {
                     TRIAL_NUMBER_DEFAULT = getParameter("Number of Trials", TRIAL_NUMBER_DEFAULT, 1, Integer.MAX_VALUE);
                     break;
                 case 8:
+                    THREADS_DEFAULT = getParameter("Threads", THREADS_DEFAULT, 1,
+                            Runtime.getRuntime().availableProcessors());
+                    break;
+                case 9:
+                    SEED_DEFAULT = getParameter("Random seed", SEED_DEFAULT, -1, Integer.MAX_VALUE);
+                    break;
+                case 10:
+                    ACO_LAZY_EVAPORATION_DEFAULT = getParameter("Lazy evaporation", ACO_LAZY_EVAPORATION_DEFAULT);
+                    break;
+                case 11:
+                    ACO_MAX_MIN_DEFAULT = getParameter("MAX-MIN Ant System", ACO_MAX_MIN_DEFAULT);
+                    if (ACO_MAX_MIN_DEFAULT && !(ACO_DECAY_RATE_DEFAULT > 0)) {
+                        notifyObservers("ERROR", "Invalid Pheromone Decay Rate",
+                                "MAX-MIN Ant System needs a positive pheromone decay rate");
+                        ACO_MAX_MIN_DEFAULT = false;
+                    }
+                    break;
+                case 12:
                     runMenuMultiple("AntColonyAlg");
+                    break;
                 default:
                     break;
             }
@@ -726,6 +831,15 @@ public class MenuController {
                             "Reporting frequency: " + REPORTING_FREQUENCY_DEFAULT,
                             "Output to file: " + FILE_OUTPUT_DEFAULT,
                             "Number of Trials: " + TRIAL_NUMBER_DEFAULT,
+                            "Threads: " + THREADS_DEFAULT,
+                            "Random seed (-1 for none): " + SEED_DEFAULT,
+                            "Selection method: " + GA_SELECTION_DEFAULT,
+                            "Tournament size: " + GA_TOURNAMENT_SIZE_DEFAULT,
+                            "Steady-state replacement: " + GA_STEADY_STATE_DEFAULT,
+                            "Replacement method (steady-state): " + GA_REPLACEMENT_DEFAULT,
+                            "Local search rate: " + GA_LOCAL_SEARCH_RATE_DEFAULT,
+                            "Duplicate policy: " + GA_DUPLICATE_POLICY_DEFAULT,
+                            "Mutation method: " + GA_MUTATION_METHOD_DEFAULT,
                             "Proceed" });
 
             switch (choice) {
@@ -757,7 +871,52 @@ public class MenuController {
                     break;
                 case 8:
                     TRIAL_NUMBER_DEFAULT = getParameter("Number of Trials", TRIAL_NUMBER_DEFAULT, 1, Integer.MAX_VALUE);
+                    break;
                 case 9:
+                    THREADS_DEFAULT = getParameter("Threads", THREADS_DEFAULT, 1,
+                            Runtime.getRuntime().availableProcessors());
+                    break;
+                case 10:
+                    SEED_DEFAULT = getParameter("Random seed", SEED_DEFAULT, -1, Integer.MAX_VALUE);
+                    break;
+                case 11:
+                    GA_SELECTION_DEFAULT = getParameter("Selection method", GA_SELECTION_DEFAULT,
+                            GeneticAlg.SelectionMethod.values());
+                    if (GA_STEADY_STATE_DEFAULT && GA_SELECTION_DEFAULT != GeneticAlg.SelectionMethod.TOURNAMENT) {
+                        notifyObservers("ERROR", "Invalid Selection Method",
+                                "Steady-state replacement only supports tournament selection");
+                        GA_SELECTION_DEFAULT = GeneticAlg.SelectionMethod.TOURNAMENT;
+                    }
+                    break;
+                case 12:
+                    GA_TOURNAMENT_SIZE_DEFAULT = getParameter("Tournament size", GA_TOURNAMENT_SIZE_DEFAULT, 1,
+                            POPULATION_SIZE_DEFAULT);
+                    break;
+                case 13:
+                    GA_STEADY_STATE_DEFAULT = getParameter("Steady-state replacement", GA_STEADY_STATE_DEFAULT);
+                    if (GA_STEADY_STATE_DEFAULT && GA_SELECTION_DEFAULT != GeneticAlg.SelectionMethod.TOURNAMENT) {
+                        notifyObservers("ERROR", "Invalid Selection Method",
+                                "Steady-state replacement only supports tournament selection");
+                        GA_STEADY_STATE_DEFAULT = false;
+                    }
+                    break;
+                case 14:
+                    GA_REPLACEMENT_DEFAULT = getParameter("Replacement method", GA_REPLACEMENT_DEFAULT,
+                            GeneticAlg.ReplacementMethod.values());
+                    break;
+                case 15:
+                    GA_LOCAL_SEARCH_RATE_DEFAULT = getParameter("Local search rate", GA_LOCAL_SEARCH_RATE_DEFAULT,
+                            0.0, 1.0);
+                    break;
+                case 16:
+                    GA_DUPLICATE_POLICY_DEFAULT = getParameter("Duplicate policy", GA_DUPLICATE_POLICY_DEFAULT,
+                            GeneticAlg.DuplicatePolicy.values());
+                    break;
+                case 17:
+                    GA_MUTATION_METHOD_DEFAULT = getParameter("Mutation method", GA_MUTATION_METHOD_DEFAULT,
+                            GeneticAlg.MutationMethod.values());
+                    break;
+                case 18:
                     runMenuMultiple("GeneticAlg");
                     break;
                 default:
@@ -767,6 +926,112 @@ public class MenuController {
         }
     }
 
+    private void runIslandGeneticAlgMenu() {
+
+        boolean exit = false;
+
+        while (!exit) {
+
+            int choice = consoleObserver.requestInput("DEFINE ISLAND GENETIC ALGORITHM",
+                    "Specify the parameters to use for this algorithm or proceed",
+                    new String[] { "Exit", "Population size (shared by all islands): " + POPULATION_SIZE_DEFAULT,
+                            "Crossover rate: " + GA_CROSSOVER_DEFAULT,
+                            "Mutation rate: " + GA_MUTATION_DEFAULT,
+                            "Elitism count (per island): " + GA_ELITISM_DEFAULT,
+                            "Number of islands: " + IGA_ISLANDS_DEFAULT,
+                            "Migration interval: " + IGA_MIGRATION_INTERVAL_DEFAULT,
+                            "Migrant count: " + IGA_MIGRANT_COUNT_DEFAULT,
+                            "Migration topology: " + IGA_TOPOLOGY_DEFAULT,
+                            "Maximum Generations: " + MAX_GEN_DEFAULT,
+                            "Reporting frequency: " + REPORTING_FREQUENCY_DEFAULT,
+                            "Output to file: " + FILE_OUTPUT_DEFAULT,
+                            "Number of Trials: " + TRIAL_NUMBER_DEFAULT,
+                            "Proceed" });
+
+            switch (choice) {
+                case 0:
+                    exit = true;
+                    break;
+                case 1:
+                    POPULATION_SIZE_DEFAULT = getParameter("Population size", POPULATION_SIZE_DEFAULT, 1,
+                            Integer.MAX_VALUE);
+                    break;
+                case 2:
+                    GA_CROSSOVER_DEFAULT = getParameter("Crossover rate", GA_CROSSOVER_DEFAULT, 0.0, 1.0);
+                    break;
+                case 3:
+                    GA_MUTATION_DEFAULT = getParameter("Mutation rate", GA_MUTATION_DEFAULT, 0.0, 1.0);
+                    break;
+                case 4:
+                    GA_ELITISM_DEFAULT = getParameter("Elitsim Count", GA_ELITISM_DEFAULT, 0, employees.size());
+                    break;
+                case 5:
+                    IGA_ISLANDS_DEFAULT = getParameter("Number of islands", IGA_ISLANDS_DEFAULT, 1,
+                            Integer.MAX_VALUE);
+                    break;
+                case 6:
+                    IGA_MIGRATION_INTERVAL_DEFAULT = getParameter("Migration interval", IGA_MIGRATION_INTERVAL_DEFAULT,
+                            1, Integer.MAX_VALUE);
+                    break;
+                case 7:
+                    IGA_MIGRANT_COUNT_DEFAULT = getParameter("Migrant count", IGA_MIGRANT_COUNT_DEFAULT, 0,
+                            Integer.MAX_VALUE);
+                    break;
+                case 8:
+                    IGA_TOPOLOGY_DEFAULT = getParameter("Migration topology", IGA_TOPOLOGY_DEFAULT,
+                            IslandGeneticAlg.MigrationTopology.values());
+                    break;
+                case 9:
+                    MAX_GEN_DEFAULT = getParameter("Maximum Generations", MAX_GEN_DEFAULT, 1, Integer.MAX_VALUE);
+                    break;
+                case 10:
+                    REPORTING_FREQUENCY_DEFAULT = getParameter("Reporting frequency", REPORTING_FREQUENCY_DEFAULT,
+                            1, Integer.MAX_VALUE);
+                    break;
+                case 11:
+                    FILE_OUTPUT_DEFAULT = getParameter("Output to file", FILE_OUTPUT_DEFAULT);
+                    break;
+                case 12:
+                    TRIAL_NUMBER_DEFAULT = getParameter("Number of Trials", TRIAL_NUMBER_DEFAULT, 1, Integer.MAX_VALUE);
+                    break;
+                case 13:
+                    runMenuMultiple("IslandGeneticAlg");
+                    break;
+                default:
+                    break;
+            }
+
+        }
+    }
+
+    /**
+     * @return The current menu settings, including the optional ones the factory applies
+     *         after construction
+     */
+    private AlgParameters currentParameters() {
+        AlgParameters parameters = new AlgParameters(MAX_GEN_DEFAULT, REPORTING_FREQUENCY_DEFAULT,
+                FILE_OUTPUT_DEFAULT, POPULATION_SIZE_DEFAULT, GA_MUTATION_DEFAULT, GA_CROSSOVER_DEFAULT,
+                GA_ELITISM_DEFAULT, PSO_PBEST_W, PSO_GBEST_W, PSO_INERTIA_WEIGHT, ACO_INITIAL_PHEROMONE_DEFAULT,
+                ACO_DECAY_RATE_DEFAULT);
+        parameters.setThreads(THREADS_DEFAULT);
+        parameters.setSeed(SEED_DEFAULT == -1 ? null : (long) SEED_DEFAULT);
+        parameters.setSelectionMethod(GA_SELECTION_DEFAULT);
+        parameters.setTournamentSize(GA_TOURNAMENT_SIZE_DEFAULT);
+        parameters.setSteadyState(GA_STEADY_STATE_DEFAULT);
+        parameters.setReplacementMethod(GA_REPLACEMENT_DEFAULT);
+        parameters.setLocalSearchRate(GA_LOCAL_SEARCH_RATE_DEFAULT);
+        parameters.setDuplicatePolicy(GA_DUPLICATE_POLICY_DEFAULT);
+        parameters.setMutationMethod(GA_MUTATION_METHOD_DEFAULT);
+        parameters.setLazyEvaporation(ACO_LAZY_EVAPORATION_DEFAULT);
+        parameters.setMaxMin(ACO_MAX_MIN_DEFAULT);
+        parameters.setIncludeIslandGeneticAlg(IGA_INCLUDE_DEFAULT);
+        parameters.setNumIslands(IGA_ISLANDS_DEFAULT);
+        parameters.setMigrationInterval(IGA_MIGRATION_INTERVAL_DEFAULT);
+        parameters.setMigrantCount(IGA_MIGRANT_COUNT_DEFAULT);
+        parameters.setMigrationTopology(IGA_TOPOLOGY_DEFAULT);
+        return parameters;
+    }
+
     private void runMenu(Algorithm algorithm, String name) {
         notifyObservers("MENU", "RUN " + name.toUpperCase(), name + " algorithm running......");
         algorithm.run();
@@ -779,6 +1044,17 @@ public class MenuController {
         return (choice == 0) ? defaultVal : choice != 2;
     }
 
+    private <E extends Enum<E>> E getParameter(String parameter, E defaultVal, E[] values) {
+        String[] options = new String[values.length + 1];
+        options[0] = "Exit";
+        for (int i = 0; i < values.length; i++) {
+            options[i + 1] = values[i].name();
+        }
+        int choice = consoleObserver.requestInput("ENTER " + parameter.toUpperCase(),
+                "Select a value for " + parameter.toLowerCase(), options);
+        return (choice == 0) ? defaultVal : values[choice - 1];
+    }
+
     private double getParameter(String parameter, double defaultVal, double min, double max) {
         double choice = consoleObserver.requestInput("ENTER " + parameter.toUpperCase(),
                 "Enter a value for " + parameter.toLowerCase(), min,
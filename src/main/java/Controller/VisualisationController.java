@@ -28,7 +28,7 @@ public class VisualisationController {
     private static final String CONSTRAINT_SATISFACTION_SUFFIX = "_constraint_satisfaction.csv";
 
     // Algorithm names
-    private static final String[] ALGORITHM_NAMES = {"GeneticAlg", "ParticleSwarmAlg", "AntColonyAlg"};
+    private static final String[] ALGORITHM_NAMES = {"GeneticAlg", "IslandGeneticAlg", "ParticleSwarmAlg", "AntColonyAlg"};
 
     // Chart output filenames
     private static final String SOLUTION_QUALITY_CHART = "solution_quality.png";
@@ -36,6 +36,41 @@ public class AlgorithmFactory {
         return ga;
     }
 
+    /**
+     * Applies the optional Genetic Algorithm settings of a parameter set, the ones that are
+     * not constructor arguments.
+     */
+    public void configureGeneticAlgorithm(GeneticAlg ga, AlgParameters p) {
+        ga.setThreads(p.getThreads());
+        ga.setSelectionMethod(p.getSelectionMethod());
+        ga.setTournamentSize(p.getTournamentSize());
+        ga.setSteadyState(p.isSteadyState());
+        ga.setReplacementMethod(p.getReplacementMethod());
+        ga.setLocalSearchRate(p.getLocalSearchRate());
+        ga.setDuplicatePolicy(p.getDuplicatePolicy());
+        ga.setMutationMethod(p.getMutationMethod());
+        if (p.getSeed() != null) {
+            ga.setSeed(p.getSeed());
+        }
+    }
+
+    /**
+     * Creates an island model Genetic Algorithm. The number of islands is capped at the
+     * population size, as every island needs at least one solution.
+     */
+    public IslandGeneticAlg createIslandGeneticAlgorithm(Integer populationSize, Double crossoverRate,
+            Double mutationRate, Integer elitismCount, Integer maxGenerations, Integer reportingFrequency,
+            Boolean fileOutput, int runId, int numIslands, int migrationInterval, int migrantCount,
+            IslandGeneticAlg.MigrationTopology topology) {
+        IslandGeneticAlg iga = new IslandGeneticAlg(tasks, employees, populationSize, crossoverRate, mutationRate,
+                elitismCount, maxGenerations, reportingFrequency, fileOutput, runId,
+                Math.min(numIslands, populationSize), migrationInterval, migrantCount, topology);
+        for (Observer observer : observers) {
+            iga.registerObserver(observer);
+        }
+        return iga;
+    }
+
     public ParticleSwarmAlg createParticleSwarm(Integer populationSize, Integer maxIterations, double c1, double c2,
             double w,
             Integer reportingFrequency, Boolean fileOutput, int runId) {
@@ -58,6 +93,37 @@ public class AlgorithmFactory {
         return aco;
     }
 
+    /**
+     * Applies the optional Ant Colony settings of a parameter set, the ones that are not
+     * constructor arguments.
+     */
+    public void configureAntColonyOptimisation(AntColAlg aco, AlgParameters p) {
+        aco.setThreads(p.getThreads());
+        aco.setLazyEvaporation(p.isLazyEvaporation());
+        aco.setMaxMin(p.isMaxMin());
+        if (p.getSeed() != null) {
+            aco.setSeed(p.getSeed());
+        }
+    }
+
+    /**
+     * Applies the optional settings of a parameter set to every island of an island model
+     * Genetic Algorithm, the ones that are not constructor arguments.
+     */
+    public void configureIslandGeneticAlgorithm(IslandGeneticAlg iga, AlgParameters p) {
+        iga.setThreads(p.getThreads());
+        iga.setSelectionMethod(p.getSelectionMethod());
+        iga.setTournamentSize(p.getTournamentSize());
+        iga.setSteadyState(p.isSteadyState());
+        iga.setReplacementMethod(p.getReplacementMethod());
+        iga.setLocalSearchRate(p.getLocalSearchRate());
+        iga.setDuplicatePolicy(p.getDuplicatePolicy());
+        iga.setMutationMethod(p.getMutationMethod());
+        if (p.getSeed() != null) {
+            iga.setSeed(p.getSeed());
+        }
+    }
+
     public Map<String, AbstractOptimisationAlgorithm> createStandardisedAlgorithms(Integer populationSize,
             Integer maxIterations,
             Integer reportingFrequency, Boolean fileOutput,
@@ -92,10 +158,12 @@ public class AlgorithmFactory {
         GeneticAlg ga = createGeneticAlgorithm(p.getPopulationSize(),
                 p.getCrossoverRate(), p.getMutationRate(), p.getElitismCount(),
                 p.getMaxIterations(), p.getReportingFrequency(), p.isFileOutput(), runID);
+        configureGeneticAlgorithm(ga, p);
        ParticleSwarmAlg ps = createParticleSwarm(p.getPopulationSize(), p.getMaxIterations(), p.getC1(),
                 p.getC2(), p.getW(), p.getReportingFrequency(), p.isFileOutput(), runID);
         AntColAlg ac = createAntColonyOptimisation(p.getPopulationSize(),p.getPherDecayRate(),
                 p.getInitPheromone(), p.getMaxIterations(), p.getReportingFrequency(), p.isFileOutput(), runID);
+        configureAntColonyOptimisation(ac, p);
 
         for (Observer observer : observers) {
             ga.registerObserver(observer);
@@ -118,6 +186,21 @@ public class AlgorithmFactory {
         algos.put("ParticleSwarmAlg", ps);
         algos.put("AntColonyAlg", ac);
 
+        // The island model roughly doubles the Genetic Algorithm time of a run, so it is opt-in
+        if (p.isIncludeIslandGeneticAlg()) {
+            IslandGeneticAlg iga = createIslandGeneticAlgorithm(p.getPopulationSize(),
+                    p.getCrossoverRate(), p.getMutationRate(), p.getElitismCount(),
+                    p.getMaxIterations(), p.getReportingFrequency(), p.isFileOutput(), runID,
+                    p.getNumIslands(), p.getMigrationInterval(), p.getMigrantCount(), p.getMigrationTopology());
+            configureIslandGeneticAlgorithm(iga, p);
+            for (Observer observer : observers) {
+                iga.registerObserver(observer);
+            }
+            p.setType("IslandGeneticAlg");
+            iga.setLoggerParameters(p);
+            algos.put("IslandGeneticAlg", iga);
+        }
+
         return algos;
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package Model;
+
+/**
+ * Precomputed task to employee compatibility for a problem instance.
+ * An employee is compatible with a task when they have the required skill and a
+ * sufficient skill level. For every task the compatible employees are stored both as
+ * an ascending list of employee indices (compressed rows) and as a bitset.
+ */
+public final class CompatibilityIndex
+{
+    private final int numEmployees;
+
+    // Compressed rows: task t's employees are employees[offsets[t] .. offsets[t + 1])
+    private final int[] offsets;
+    private final int[] employees;
+
+    // Bitset: task t owns words [t * words, (t + 1) * words)
+    private final int words;
+    private final long[] bits;
+
+    CompatibilityIndex(ProblemInstance problem)
+    {
+        int numTasks = problem.getNumTasks();
+        this.numEmployees = problem.getNumEmployees();
+        this.words = Math.max(1, (numEmployees + 63) >>> 6);
+        this.bits = new long[numTasks * words];
+        this.offsets = new int[numTasks + 1];
+
+        int total = 0;
+        for (int t = 0; t < numTasks; t++)
+        {
+            for (int e = 0; e < numEmployees; e++)
+            {
+                if (problem.isCompatible(t, e))
+                {
+                    bits[t * words + (e >>> 6)] |= 1L << e;
+                    total++;
+                }
+            }
+            offsets[t + 1] = total;
+        }
+
+        this.employees = new int[total];
+        int pos = 0;
+        for (int t = 0; t < numTasks; t++)
+        {
+            for (int w = 0; w < words; w++)
+            {
+                long word = bits[t * words + w];
+                while (word != 0)
+                {
+                    employees[pos++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of employees compatible with the task
+     */
+    public int count(int task)
+    {
+        return offsets[task + 1] - offsets[task];
+    }
+
+    /**
+     * @param task  The task
+     * @param index Position in the task's ascending list, between 0 and count(task) - 1
+     * @return The employee at that position
+     */
+    public int employeeAt(int task, int index)
+    {
+        return employees[offsets[task] + index];
+    }
+
+    /**
+     * @return True if the employee is compatible with the task
+     */
+    public boolean isCompatible(int task, int employee)
+    {
+        return (bits[task * words + (employee >>> 6)] & (1L << employee)) != 0;
+    }
+
+    /**
+     * @return The total number of compatible task and employee pairs
+     */
+    public int size()
+    {
+        return employees.length;
+    }
+
+    /**
+     * @return The fraction of all task and employee pairs that are compatible
+     */
+    public double density()
+    {
+        long pairs = (long) (offsets.length - 1) * numEmployees;
+        return pairs == 0 ? 0.0 : (double) employees.length / pairs;
+    }
+}
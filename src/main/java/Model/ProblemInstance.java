@@ -0,0 +1,237 @@
+package Model;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Immutable, array based view of a loaded problem instance.
+ * Built once from the task and employee lists so that cost evaluation works on
+ * primitive arrays rather than object getters and HashSet skill lookups.
+ * Task arrays are indexed by task idx and employee arrays by list position,
+ * matching how solutions are encoded.
+ */
+public final class ProblemInstance
+{
+    private final int numTasks;
+    private final int numEmployees;
+
+    // Task data
+    private final int[] estimatedTime;
+    private final int[] difficulty;
+    private final int[] deadline;
+    private final int[] requiredSkill;   // interned skill id
+    private final String[] skillNames;   // skill id -> skill name
+    private final int[] deadlineOrder;   // task indices in the order deadlines are evaluated
+    private final int[] deadlineRank;    // inverse of deadlineOrder
+
+    // Employee data
+    private final int[] availableHours;
+    private final int[] skillLevel;
+    private final int skillWords;        // number of longs per employee skill mask
+    private final long[] skillMask;      // employee e owns words [e * skillWords, (e + 1) * skillWords)
+
+    // Built on first use
+    private volatile CompatibilityIndex compatibility;
+
+    private ProblemInstance(List<Task> tasks, List<Employee> employees)
+    {
+        this.numTasks = tasks.size();
+        this.numEmployees = employees.size();
+
+        this.estimatedTime = new int[numTasks];
+        this.difficulty = new int[numTasks];
+        this.deadline = new int[numTasks];
+        this.requiredSkill = new int[numTasks];
+
+        // Intern the skills that tasks actually require; any other employee skill can never match
+        Map<String, Integer> skillIds = new HashMap<>();
+        for (Task task : tasks)
+        {
+            int t = task.getIdx();
+            estimatedTime[t] = task.getEstimatedTime();
+            difficulty[t] = task.getDifficulty();
+            deadline[t] = task.getDeadline();
+            requiredSkill[t] = skillIds.computeIfAbsent(task.getRequiredSkill(), s -> skillIds.size());
+        }
+
+        // Tasks are completed in ascending order of estimated time. The order never changes, so it is
+        // taken once from the same priority queue the list based calculation uses to keep ties identical
+        Queue<Integer> queue = new PriorityQueue<>(Comparator.comparingInt(t -> estimatedTime[t]));
+        for (Task task : tasks)
+        {
+            queue.add(task.getIdx());
+        }
+        this.deadlineOrder = new int[numTasks];
+        this.deadlineRank = new int[numTasks];
+        for (int rank = 0; rank < numTasks; rank++)
+        {
+            deadlineOrder[rank] = queue.poll();
+            deadlineRank[deadlineOrder[rank]] = rank;
+        }
+
+        this.skillNames = new String[skillIds.size()];
+        for (Map.Entry<String, Integer> entry : skillIds.entrySet())
+        {
+            skillNames[entry.getValue()] = entry.getKey();
+        }
+
+        this.availableHours = new int[numEmployees];
+        this.skillLevel = new int[numEmployees];
+        this.skillWords = Math.max(1, (skillNames.length + 63) >>> 6);
+        this.skillMask = new long[numEmployees * skillWords];
+
+        for (int e = 0; e < numEmployees; e++)
+        {
+            Employee employee = employees.get(e);
+            availableHours[e] = employee.getAvailableHours();
+            skillLevel[e] = employee.getSkillLevel();
+            for (String skill : employee.getSkills())
+            {
+                Integer id = skillIds.get(skill);
+                if (id != null)
+                {
+                    skillMask[e * skillWords + (id >>> 6)] |= 1L << id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the given lists into a new instance. Compiling copies the lists, so later
+     * changes to them are not seen; compile once per run and pass the instance down.
+     *
+     * @param tasks     The list of all tasks
+     * @param employees The list of all employees
+     * @return The compiled problem instance
+     */
+    public static ProblemInstance of(List<Task> tasks, List<Employee> employees)
+    {
+        return new ProblemInstance(tasks, employees);
+    }
+
+    /**
+     * Returns the task to employee compatibility index, building it on first use.
+     *
+     * @return The compatibility index for this instance
+     */
+    public CompatibilityIndex getCompatibility()
+    {
+        CompatibilityIndex index = compatibility;
+        if (index == null)
+        {
+            synchronized (this)
+            {
+                index = compatibility;
+                if (index == null)
+                {
+                    index = new CompatibilityIndex(this);
+                    compatibility = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public int getNumTasks()
+    {
+        return numTasks;
+    }
+
+    public int getNumEmployees()
+    {
+        return numEmployees;
+    }
+
+    public int getNumSkills()
+    {
+        return skillNames.length;
+    }
+
+    public String getSkillName(int skillId)
+    {
+        return skillNames[skillId];
+    }
+
+    public int getEstimatedTime(int task)
+    {
+        return estimatedTime[task];
+    }
+
+    public int getDifficulty(int task)
+    {
+        return difficulty[task];
+    }
+
+    public int getDeadline(int task)
+    {
+        return deadline[task];
+    }
+
+    public int getRequiredSkill(int task)
+    {
+        return requiredSkill[task];
+    }
+
+    /**
+     * @param rank Position in the deadline processing order
+     * @return The index of the task processed at that position
+     */
+    public int getDeadlineOrder(int rank)
+    {
+        return deadlineOrder[rank];
+    }
+
+    /**
+     * @return The position of the task in the deadline processing order
+     */
+    public int getDeadlineRank(int task)
+    {
+        return deadlineRank[task];
+    }
+
+    public int getAvailableHours(int employee)
+    {
+        return availableHours[employee];
+    }
+
+    public int getSkillLevel(int employee)
+    {
+        return skillLevel[employee];
+    }
+
+    /**
+     * @return True if the employee has the skill the task requires
+     */
+    public boolean hasSkill(int task, int employee)
+    {
+        return hasSkillId(employee, requiredSkill[task]);
+    }
+
+    /**
+     * @return True if the employee has the skill with the given interned id
+     */
+    public boolean hasSkillId(int employee, int skill)
+    {
+        return (skillMask[employee * skillWords + (skill >>> 6)] & (1L << skill)) != 0;
+    }
+
+    /**
+     * @return True if the employee has the required skill and a sufficient skill level for the task
+     */
+    public boolean isCompatible(int task, int employee)
+    {
+        return skillLevel[employee] >= difficulty[task] && hasSkill(task, employee);
+    }
+
+    /**
+     * @return True if the value is a valid employee index
+     */
+    public boolean isAssigned(int employee)
+    {
+        return employee >= 0 && employee < numEmployees;
+    }
+}
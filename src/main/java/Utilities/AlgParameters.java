@@ -3,6 +3,12 @@ package Utilities;
 import Algorithms.AbstractOptimisationAlgorithm;
 import Algorithms.AntColAlg;
 import Algorithms.GeneticAlg;
+import Algorithms.GeneticAlg.DuplicatePolicy;
+import Algorithms.GeneticAlg.MutationMethod;
+import Algorithms.GeneticAlg.ReplacementMethod;
+import Algorithms.GeneticAlg.SelectionMethod;
+import Algorithms.IslandGeneticAlg;
+import Algorithms.IslandGeneticAlg.MigrationTopology;
 import Algorithms.ParticleSwarmAlg;
 
 public class AlgParameters
@@ -14,11 +20,27 @@ public class AlgParameters
     private final int reportingFrequency;
     private boolean fileOutput;
     private int populationSize;
+    private int threads = 1;
+    private Long seed;               // null for an unseeded run
 
     // Genetic
     private double mutationRate;
     private double crossoverRate;
     private int elitismCount;
+    private SelectionMethod selectionMethod = SelectionMethod.TOURNAMENT;
+    private int tournamentSize = 3;
+    private boolean steadyState;
+    private ReplacementMethod replacementMethod = ReplacementMethod.WORST;
+    private double localSearchRate;
+    private DuplicatePolicy duplicatePolicy = DuplicatePolicy.ALLOW;
+    private MutationMethod mutationMethod = MutationMethod.UNIFORM;
+
+    // Island Genetic, also uses the Genetic settings for every island
+    private boolean includeIslandGeneticAlg;   // whether standardised runs also run the island model
+    private int numIslands = 4;
+    private int migrationInterval = 10;
+    private int migrantCount = 2;
+    private MigrationTopology migrationTopology = MigrationTopology.RING;
 
     // Particle Swarm
     private  double c1;
@@ -28,6 +50,8 @@ public class AlgParameters
     // Ant Colony
     private double initPheromone;
     private double pherDecayRate;
+    private boolean lazyEvaporation;
+    private boolean maxMin;
 
 
 
@@ -83,6 +107,35 @@ public class AlgParameters
                 this.mutationRate = ga.getMutationRate();
                 this.crossoverRate = ga.getCrossoverRate();
                 this.elitismCount = ga.getElitismCount();
+                this.threads = ga.getThreads();
+                this.seed = ga.isSeeded() ? ga.getSeed() : null;
+                this.selectionMethod = ga.getSelectionMethod();
+                this.tournamentSize = ga.getTournamentSize();
+                this.steadyState = ga.isSteadyState();
+                this.replacementMethod = ga.getReplacementMethod();
+                this.localSearchRate = ga.getLocalSearchRate();
+                this.duplicatePolicy = ga.getDuplicatePolicy();
+                this.mutationMethod = ga.getMutationMethod();
+            }
+            case "IslandGeneticAlg" ->
+            {
+                IslandGeneticAlg iga = (IslandGeneticAlg) a;
+                this.mutationRate = iga.getMutationRate();
+                this.crossoverRate = iga.getCrossoverRate();
+                this.elitismCount = iga.getElitismCount();
+                this.numIslands = iga.getNumIslands();
+                this.migrationInterval = iga.getMigrationInterval();
+                this.migrantCount = iga.getMigrantCount();
+                this.migrationTopology = iga.getTopology();
+                this.threads = iga.getThreads();
+                this.seed = iga.isSeeded() ? iga.getSeed() : null;
+                this.selectionMethod = iga.getSelectionMethod();
+                this.tournamentSize = iga.getTournamentSize();
+                this.steadyState = iga.isSteadyState();
+                this.replacementMethod = iga.getReplacementMethod();
+                this.localSearchRate = iga.getLocalSearchRate();
+                this.duplicatePolicy = iga.getDuplicatePolicy();
+                this.mutationMethod = iga.getMutationMethod();
             }
             case "ParticleSwarmAlg" ->
             {
@@ -96,6 +149,10 @@ public class AlgParameters
                 AntColAlg ac = (AntColAlg) a;
                 this.initPheromone = ac.getInitPheromone();
                 this.pherDecayRate = ac.getPherDecayRate();
+                this.threads = ac.getThreads();
+                this.seed = ac.isSeeded() ? ac.getSeed() : null;
+                this.lazyEvaporation = ac.isLazyEvaporation();
+                this.maxMin = ac.isMaxMin();
             }
             default -> throw new IllegalArgumentException("Invalid type: " + type);
         }
@@ -115,11 +172,14 @@ public class AlgParameters
             {
                 //Write header
                 sb.append("type,maxIterations,reportingFrequency," +
-                        "fileOutput,populationSize,initPheromone,pherDecayRate\n");
+                        "fileOutput,populationSize,initPheromone,pherDecayRate,threads,seed,lazyEvaporation,maxMin\n");
 
                 sb.append(type).append(",")
                         .append(maxIterations).append(",").append(reportingFrequency)
-                        .append(",").append(initPheromone).append(",").append(pherDecayRate).append("\n");
+                        .append(",").append(fileOutput).append(",").append(populationSize)
+                        .append(",").append(initPheromone).append(",").append(pherDecayRate)
+                        .append(",").append(threads).append(",").append(seed == null ? "none" : seed)
+                        .append(",").append(lazyEvaporation).append(",").append(maxMin).append("\n");
                 return sb.toString();
             }
             case "ParticleSwarmAlg" ->
@@ -139,12 +199,40 @@ public class AlgParameters
                 //Write header
                 sb.append("type,maxIterations,reportingFrequency," +
                         "fileOutput,populationSize,mutationRate,crossoverRate," +
-                        "elitismCount\n");
+                        "elitismCount,threads,seed,selectionMethod,tournamentSize," +
+                        "steadyState,replacementMethod,localSearchRate,duplicatePolicy,mutationMethod\n");
+
+                sb.append(type).append(",").append(maxIterations).append(",").append(reportingFrequency)
+                        .append(",").append(fileOutput).append(",").append(populationSize)
+                        .append(",").append(mutationRate).append(",").append(crossoverRate)
+                        .append(",").append(elitismCount).append(",").append(threads)
+                        .append(",").append(seed == null ? "none" : seed)
+                        .append(",").append(selectionMethod).append(",").append(tournamentSize)
+                        .append(",").append(steadyState).append(",").append(replacementMethod)
+                        .append(",").append(localSearchRate).append(",").append(duplicatePolicy)
+                        .append(",").append(mutationMethod).append("\n");
+                return sb.toString();
+            }
+            case "IslandGeneticAlg" ->
+            {
+                //Write header
+                sb.append("type,maxIterations,reportingFrequency," +
+                        "fileOutput,populationSize,mutationRate,crossoverRate," +
+                        "elitismCount,numIslands,migrationInterval,migrantCount,migrationTopology," +
+                        "threads,seed,selectionMethod,tournamentSize,steadyState,replacementMethod," +
+                        "localSearchRate,duplicatePolicy,mutationMethod\n");
 
                 sb.append(type).append(",").append(maxIterations).append(",").append(reportingFrequency)
                         .append(",").append(fileOutput).append(",").append(populationSize)
                         .append(",").append(mutationRate).append(",").append(crossoverRate)
-                        .append(",").append(elitismCount).append("\n");
+                        .append(",").append(elitismCount).append(",").append(numIslands)
+                        .append(",").append(migrationInterval).append(",").append(migrantCount)
+                        .append(",").append(migrationTopology).append(",").append(threads)
+                        .append(",").append(seed == null ? "none" : seed)
+                        .append(",").append(selectionMethod).append(",").append(tournamentSize)
+                        .append(",").append(steadyState).append(",").append(replacementMethod)
+                        .append(",").append(localSearchRate).append(",").append(duplicatePolicy)
+                        .append(",").append(mutationMethod).append("\n");
                 return sb.toString();
             }
             default -> throw new IllegalArgumentException("Invalid type: " + type);
@@ -214,6 +302,149 @@ public class AlgParameters
         return elitismCount;
     }
 
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    /**
+     * @return The random seed, or null for an unseeded run
+     */
+    public Long getSeed()
+    {
+        return seed;
+    }
+
+    public void setSeed(Long seed)
+    {
+        this.seed = seed;
+    }
+
+    public SelectionMethod getSelectionMethod()
+    {
+        return selectionMethod;
+    }
+
+    public void setSelectionMethod(SelectionMethod selectionMethod)
+    {
+        this.selectionMethod = selectionMethod;
+    }
+
+    public int getTournamentSize()
+    {
+        return tournamentSize;
+    }
+
+    public void setTournamentSize(int tournamentSize)
+    {
+        this.tournamentSize = tournamentSize;
+    }
+
+    public boolean isSteadyState()
+    {
+        return steadyState;
+    }
+
+    public void setSteadyState(boolean steadyState)
+    {
+        this.steadyState = steadyState;
+    }
+
+    public ReplacementMethod getReplacementMethod()
+    {
+        return replacementMethod;
+    }
+
+    public void setReplacementMethod(ReplacementMethod replacementMethod)
+    {
+        this.replacementMethod = replacementMethod;
+    }
+
+    public double getLocalSearchRate()
+    {
+        return localSearchRate;
+    }
+
+    public void setLocalSearchRate(double localSearchRate)
+    {
+        this.localSearchRate = localSearchRate;
+    }
+
+    public DuplicatePolicy getDuplicatePolicy()
+    {
+        return duplicatePolicy;
+    }
+
+    public void setDuplicatePolicy(DuplicatePolicy duplicatePolicy)
+    {
+        this.duplicatePolicy = duplicatePolicy;
+    }
+
+    public MutationMethod getMutationMethod()
+    {
+        return mutationMethod;
+    }
+
+    public void setMutationMethod(MutationMethod mutationMethod)
+    {
+        this.mutationMethod = mutationMethod;
+    }
+
+    public int getNumIslands()
+    {
+        return numIslands;
+    }
+
+    public void setNumIslands(int numIslands)
+    {
+        this.numIslands = numIslands;
+    }
+
+    public int getMigrationInterval()
+    {
+        return migrationInterval;
+    }
+
+    public void setMigrationInterval(int migrationInterval)
+    {
+        this.migrationInterval = migrationInterval;
+    }
+
+    public int getMigrantCount()
+    {
+        return migrantCount;
+    }
+
+    public void setMigrantCount(int migrantCount)
+    {
+        this.migrantCount = migrantCount;
+    }
+
+    public MigrationTopology getMigrationTopology()
+    {
+        return migrationTopology;
+    }
+
+    public void setMigrationTopology(MigrationTopology migrationTopology)
+    {
+        this.migrationTopology = migrationTopology;
+    }
+
+    public boolean isIncludeIslandGeneticAlg()
+    {
+        return includeIslandGeneticAlg;
+    }
+
+    public void setIncludeIslandGeneticAlg(boolean includeIslandGeneticAlg)
+    {
+        this.includeIslandGeneticAlg = includeIslandGeneticAlg;
+    }
+
     public double getC1()
     {
         return c1;
@@ -245,4 +476,24 @@ public class AlgParameters
         return pherDecayRate;
     }
 
+    public boolean isLazyEvaporation()
+    {
+        return lazyEvaporation;
+    }
+
+    public void setLazyEvaporation(boolean lazyEvaporation)
+    {
+        this.lazyEvaporation = lazyEvaporation;
+    }
+
+    public boolean isMaxMin()
+    {
+        return maxMin;
+    }
+
+    public void setMaxMin(boolean maxMin)
+    {
+        this.maxMin = maxMin;
+    }
+
 }
@@ -1,5 +1,7 @@
 package Utilities;
 
+import Algorithms.GeneticAlg;
+import Algorithms.IslandGeneticAlg;
 import Exceptions.LoadDataException;
 import Model.Task;
 import Model.Employee;
@@ -180,16 +182,18 @@ public class DataGenerator {
 
         // "maxIterations,reportingFrequency,fileOutput,populationSize,mutationRate,crossoverRate,
         // elitismCount,c1,c2,w,initpheromone,Pherdecayrate\n")
+        // Any further columns are optional settings, named by the header, see applyOptionalParameter
 
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            // Skip header line
+            // Header line names the optional columns
             String line = reader.readLine();
+            String[] header = line == null ? new String[0] : line.split(",");
 
             int idx = 0;
             // Read data lines
             while ((line = reader.readLine()) != null) {
                 String[] data = line.split(",");
-                if (data.length == 12) {
+                if (data.length >= 12 && data.length <= header.length) {
                     //100,10,1,100,0.1,0.1,2,1.5,1.5,0.5,0.1,0.1
                     int maxIterations = Integer.parseInt(data[0].trim());
                     int reportingFrequency = Integer.parseInt(data[1].trim());
@@ -208,6 +212,18 @@ public class DataGenerator {
                             reportingFrequency, fileOutput, populationSize, mutationRate,
                             crossoverRate, elitismCount, c1, c2, w, initPheromone,
                             pherDecayRate);
+                    for (int i = 12; i < data.length; i++) {
+                        applyOptionalParameter(parameters, header[i].trim(), data[i].trim());
+                    }
+                    if (parameters.isSteadyState()
+                            && parameters.getSelectionMethod() != GeneticAlg.SelectionMethod.TOURNAMENT) {
+                        throw new LoadDataException("Steady-state replacement only supports tournament selection: "
+                                + parameters.getSelectionMethod());
+                    }
+                    if (parameters.isMaxMin() && !(parameters.getPherDecayRate() > 0)) {
+                        throw new LoadDataException("MAX-MIN Ant System needs a positive pheromone decay rate: "
+                                + parameters.getPherDecayRate());
+                    }
                     return parameters;
                 } else {
                     throw new LoadDataException("Invalid TestData line: " + line);
@@ -220,4 +236,44 @@ public class DataGenerator {
         }
         throw new LoadDataException("No CSV files found in resources directory.");
     }
+
+    /**
+     * Sets one optional column of a test file on the parameters.
+     *
+     * @param parameters The parameters read from the required columns
+     * @param name       The column name from the header
+     * @param value      The value in the column
+     * @throws LoadDataException If the column is unknown or its value cannot be read
+     */
+    private static void applyOptionalParameter(AlgParameters parameters, String name, String value)
+            throws LoadDataException {
+        try {
+            switch (name) {
+                case "threads" -> parameters.setThreads(Integer.parseInt(value));
+                case "seed" -> parameters.setSeed(value.equalsIgnoreCase("none") ? null : Long.parseLong(value));
+                case "selectionMethod" ->
+                        parameters.setSelectionMethod(GeneticAlg.SelectionMethod.valueOf(value.toUpperCase()));
+                case "tournamentSize" -> parameters.setTournamentSize(Integer.parseInt(value));
+                case "steadyState" -> parameters.setSteadyState(Boolean.parseBoolean(value));
+                case "replacementMethod" ->
+                        parameters.setReplacementMethod(GeneticAlg.ReplacementMethod.valueOf(value.toUpperCase()));
+                case "localSearchRate" -> parameters.setLocalSearchRate(Double.parseDouble(value));
+                case "duplicatePolicy" ->
+                        parameters.setDuplicatePolicy(GeneticAlg.DuplicatePolicy.valueOf(value.toUpperCase()));
+                case "mutationMethod" ->
+                        parameters.setMutationMethod(GeneticAlg.MutationMethod.valueOf(value.toUpperCase()));
+                case "lazyEvaporation" -> parameters.setLazyEvaporation(Boolean.parseBoolean(value));
+                case "maxMin" -> parameters.setMaxMin(Boolean.parseBoolean(value));
+                case "includeIslandGeneticAlg" -> parameters.setIncludeIslandGeneticAlg(Boolean.parseBoolean(value));
+                case "numIslands" -> parameters.setNumIslands(Integer.parseInt(value));
+                case "migrationInterval" -> parameters.setMigrationInterval(Integer.parseInt(value));
+                case "migrantCount" -> parameters.setMigrantCount(Integer.parseInt(value));
+                case "migrationTopology" ->
+                        parameters.setMigrationTopology(IslandGeneticAlg.MigrationTopology.valueOf(value.toUpperCase()));
+                default -> throw new LoadDataException("Unknown TestData column: " + name);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new LoadDataException("Invalid value for TestData column " + name + ": " + value);
+        }
+    }
 }
\ No newline at end of file
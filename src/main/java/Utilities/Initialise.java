@@ -5,6 +5,7 @@ import Model.Task;
 
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class for generating an initial population at random
@@ -47,4 +48,29 @@ public class Initialise
         }
         return population;
     }
+
+    /**
+     * Generates population at random from data, drawing from the given generator so that
+     * a seeded generator always produces the same population
+     *
+     * @param employees      the list of employees
+     * @param tasks          the list of tasks
+     * @param populationSize the total number of solutions in the population
+     * @param random         the random number generator to draw from
+     * @return random initial population as int[][] array
+     */
+
+    public static int[][] getInitialPopulation(List<Employee> employees, List<Task> tasks, int populationSize,
+                                               RandomGenerator random)
+    {
+        int[][] population = new int[populationSize][tasks.size()];
+        for (int i = 0; i < populationSize; i++)
+        {
+            for (Task task : tasks)
+            {
+                population[i][task.getIdx()] = random.nextInt(employees.size());
+            }
+        }
+        return population;
+    }
 }
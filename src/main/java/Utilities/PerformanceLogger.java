@@ -5,13 +5,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import Algorithms.CostBreakdown;
 import Exceptions.LoadDataException;
-import Model.Employee;
-import Model.Task;
 
 /**
  * Class for logging performance metrics during algorithm execution
@@ -25,13 +22,20 @@ public class PerformanceLogger {
     private static final String COMPUTATIONAL_EFFICIENCY_MEMORY_FILE = "computational_efficiency_memory.csv";
     private static final String CONSTRAINT_SATISFACTION_FILE = "constraint_satisfaction.csv";
     private static final String PARAMETERS_FILE = "parameters.csv";
+    private static final String FITNESS_CACHE_FILE = "fitness_cache.csv";
+    private static final String ISLAND_BEST_FILE = "island_best.csv";
+    private static final String DUPLICATE_RATE_FILE = "duplicate_rate.csv";
 
     // Metrics tracking
     private AlgParameters parameters;
     private final List<IterationData> iterationDataList = new ArrayList<>();
+    private final List<IslandData> islandDataList = new ArrayList<>();
+    private final List<DuplicateData> duplicateDataList = new ArrayList<>();
     private final String algorithmName;
-    private final List<Task> tasks;
-    private final List<Employee> employees;
+
+    // Fitness cache counters, reported by algorithms that use one
+    private long fitnessCacheHits;
+    private long fitnessCacheMisses;
 
     // Time tracking
     private long startTime;
@@ -42,14 +46,10 @@ public class PerformanceLogger {
      * Construct a PerformanceLogger for a specific algorithm run.
      *
      * @param algorithmName The name of the algorithm being logged
-     * @param tasks The list of tasks in the problem instance
-     * @param employees The list of employees in the problem instance
      * @param runId The ID of the current run for the algorithm (for averaging)
      */
-    public PerformanceLogger(String algorithmName, List<Task> tasks, List<Employee> employees, int runId) {
+    public PerformanceLogger(String algorithmName, int runId) {
         this.algorithmName = algorithmName;
-        this.tasks = tasks;
-        this.employees = employees;
 
         PathUtility.setRunId(runId);
         PathUtility.createDirectories();
@@ -74,135 +74,65 @@ public class PerformanceLogger {
         this.totalExecutionTime = System.currentTimeMillis() - startTime;
     }
 
+    /**
+     * Record the fitness cache hit and miss counters for this run.
+     *
+     * @param hits The number of costs served from the cache
+     * @param misses The number of costs that had to be evaluated
+     */
+    public void setFitnessCacheStatistics(long hits, long misses) {
+        this.fitnessCacheHits = hits;
+        this.fitnessCacheMisses = misses;
+    }
+
     /**
      * Record metrics for the current iteration.
+     * The breakdown is the one the algorithm produced when it scored its best solution,
+     * so logging never re-evaluates a solution.
      *
      * @param iteration The current iteration/generation number
-     * @param solution The current best solution
-     * @param cost The cost of the current best solution
+     * @param best The cost breakdown of the current best solution
      * @param memoryUsed The memory used (in MB) during this iteration
      */
-    public void logIteration(int iteration, int[] solution, double cost, double memoryUsed) {
+    public void logIteration(int iteration, CostBreakdown best, double memoryUsed) {
         long currentTime = System.currentTimeMillis();
         long elapsedTime = currentTime - startTime;
 
-        // Calculate constraint violations
-        int skillMismatchCount = countSkillMismatches(solution);
-        int overloadCount = countOverloads(solution);
-        int difficultyViolationCount = countDifficultyViolations(solution);
-        int deadlineViolationCount = countDeadlineViolations(solution);
-
-        // Total constraint violations
-        int totalConstraintViolations = skillMismatchCount + overloadCount + difficultyViolationCount + deadlineViolationCount;
-
         // Create iteration data entry
         IterationData data = new IterationData(
                 iteration,
                 elapsedTime,
-                cost,
+                best.getTotalCost(),
                 memoryUsed,
-                totalConstraintViolations,
-                skillMismatchCount,
-                overloadCount,
-                difficultyViolationCount,
-                deadlineViolationCount
+                best.getTotalConstraintViolations(),
+                best.getSkillMismatches(),
+                best.getOverloadedEmployees(),
+                best.getSkillLevelViolations(),
+                best.getLateTasks()
         );
 
         iterationDataList.add(data);
     }
 
     /**
-     * Count the number of skill mismatches in the solution.
-     */
-    private int countSkillMismatches(int[] solution) {
-        int count = 0;
-        for (Task task : tasks) {
-            int employeeIdx = solution[task.getIdx()];
-            Employee employee = employees.get(employeeIdx);
-            if (!employee.hasSkill(task.getRequiredSkill())) {
-                count++;
-            }
-        }
-        return count;
-    }
-
-    /**
-     * Count the number of employees with overloaded work hours.
-     */
-    private int countOverloads(int[] solution) {
-        Map<String, Integer> employeeWorkload = new HashMap<>();
-
-        // Calculate workload for each employee
-        for (Task task : tasks) {
-            int employeeIdx = solution[task.getIdx()];
-            Employee employee = employees.get(employeeIdx);
-            String employeeId = employee.getId();
-
-            employeeWorkload.put(
-                    employeeId,
-                    employeeWorkload.getOrDefault(employeeId, 0) + task.getEstimatedTime()
-            );
-        }
-
-        // Count overloaded employees
-        int count = 0;
-        for (Employee employee : employees) {
-            int workload = employeeWorkload.getOrDefault(employee.getId(), 0);
-            if (workload > employee.getAvailableHours()) {
-                count++;
-            }
-        }
-
-        return count;
-    }
-
-    /**
-     * Count the number of difficulty level violations.
+     * Record the best cost of one island of an island model algorithm after a generation.
+     *
+     * @param island The index of the island
+     * @param iteration The generation number on that island
+     * @param bestCost The best cost the island had found by then
      */
-    private int countDifficultyViolations(int[] solution) {
-        int count = 0;
-        for (Task task : tasks) {
-            int employeeIdx = solution[task.getIdx()];
-            Employee employee = employees.get(employeeIdx);
-            if (employee.getSkillLevel() < task.getDifficulty()) {
-                count++;
-            }
-        }
-        return count;
+    public void logIslandBest(int island, int iteration, double bestCost) {
+        islandDataList.add(new IslandData(island, iteration, bestCost));
     }
 
     /**
-     * Count the number of deadline violations.
+     * Record the fraction of a generation's offspring that were clones of another solution.
+     *
+     * @param iteration The generation number
+     * @param duplicateRate The fraction of offspring that were clones, between 0 and 1
      */
-    private int countDeadlineViolations(int[] solution) {
-        // For each employee, track their current workload time
-        Map<String, Integer> employeeWorkloadTimes = new HashMap<>();
-        int count = 0;
-
-        for (Task task : tasks) {
-            int employeeIdx = solution[task.getIdx()];
-            Employee employee = employees.get(employeeIdx);
-            String employeeId = employee.getId();
-
-            // Initialize workload time if not already present
-            employeeWorkloadTimes.putIfAbsent(employeeId, 0);
-
-            // Get current workload time for the employee
-            int currentWorkloadTime = employeeWorkloadTimes.get(employeeId);
-
-            // Add the task's estimated time to the workload
-            currentWorkloadTime += task.getEstimatedTime();
-
-            // Check if the deadline is violated
-            if (currentWorkloadTime > task.getDeadline()) {
-                count++;
-            }
-
-            // Update the workload time
-            employeeWorkloadTimes.put(employeeId, currentWorkloadTime);
-        }
-
-        return count;
+    public void logDuplicateRate(int iteration, double duplicateRate) {
+        duplicateDataList.add(new DuplicateData(iteration, duplicateRate));
     }
 
     /**
@@ -214,6 +144,9 @@ public class PerformanceLogger {
             saveConstraintSatisfactionData();
             saveComputationalEfficiencyData();
             saveRunParameters(parameters);
+            saveFitnessCacheData();
+            saveIslandData();
+            saveDuplicateData();
             System.out.println("Performance metrics saved successfully to the 'results' directory.");
         } catch (IOException e) {
             System.err.println("Error saving performance metrics: " + e.getMessage());
@@ -316,6 +249,113 @@ public class PerformanceLogger {
     }
 
 
+    /**
+     * Append fitness cache statistics for this run, if the algorithm used a cache.
+     */
+    private void saveFitnessCacheData() throws LoadDataException {
+        long lookups = fitnessCacheHits + fitnessCacheMisses;
+        if (lookups == 0) {
+            return;
+        }
+        String filename = PathUtility.getPerformanceDir() + "/" + algorithmName + "_" + FITNESS_CACHE_FILE;
+        boolean fileExists = Files.exists(Paths.get(filename));
+
+        try (FileWriter writer = new FileWriter(filename, true)) {
+            if (!fileExists) {
+                writer.write("Algorithm,Hits,Misses,HitRate\n");
+            }
+            writer.write(String.format("%s,%d,%d,%.4f\n",
+                    algorithmName,
+                    fitnessCacheHits,
+                    fitnessCacheMisses,
+                    (double) fitnessCacheHits / lookups
+            ));
+        } catch (IOException e) {
+            throw new LoadDataException(e.getMessage());
+        }
+    }
+
+    /**
+     * Append the per-island best cost history, if the algorithm logged one.
+     */
+    private void saveIslandData() throws LoadDataException {
+        if (islandDataList.isEmpty()) {
+            return;
+        }
+        String filename = PathUtility.getPerformanceDir() + "/" + algorithmName + "_" + ISLAND_BEST_FILE;
+        boolean fileExists = Files.exists(Paths.get(filename));
+
+        try (FileWriter writer = new FileWriter(filename, true)) {
+            if (!fileExists) {
+                writer.write("Algorithm,Island,Iteration,costValue\n");
+            }
+            for (IslandData data : islandDataList) {
+                writer.write(String.format("%s,%d,%d,%.2f\n",
+                        algorithmName,
+                        data.island,
+                        data.iteration,
+                        data.cost
+                ));
+            }
+        } catch (IOException e) {
+            throw new LoadDataException(e.getMessage());
+        }
+    }
+
+    /**
+     * Append the per-generation duplicate rate, if the algorithm logged one.
+     */
+    private void saveDuplicateData() throws LoadDataException {
+        if (duplicateDataList.isEmpty()) {
+            return;
+        }
+        String filename = PathUtility.getPerformanceDir() + "/" + algorithmName + "_" + DUPLICATE_RATE_FILE;
+        boolean fileExists = Files.exists(Paths.get(filename));
+
+        try (FileWriter writer = new FileWriter(filename, true)) {
+            if (!fileExists) {
+                writer.write("Algorithm,Iteration,DuplicateRate\n");
+            }
+            for (DuplicateData data : duplicateDataList) {
+                writer.write(String.format("%s,%d,%.4f\n",
+                        algorithmName,
+                        data.iteration,
+                        data.duplicateRate
+                ));
+            }
+        } catch (IOException e) {
+            throw new LoadDataException(e.getMessage());
+        }
+    }
+
+    /**
+     * Inner class to store the duplicate rate of one generation.
+     */
+    private static class DuplicateData {
+        final int iteration;
+        final double duplicateRate;
+
+        DuplicateData(int iteration, double duplicateRate) {
+            this.iteration = iteration;
+            this.duplicateRate = duplicateRate;
+        }
+    }
+
+    /**
+     * Inner class to store the best cost of one island after one generation.
+     */
+    private static class IslandData {
+        final int island;
+        final int iteration;
+        final double cost;
+
+        IslandData(int island, int iteration, double cost) {
+            this.island = island;
+            this.iteration = iteration;
+            this.cost = cost;
+        }
+    }
+
     /**
      * Inner class to store data for each iteration.
      */
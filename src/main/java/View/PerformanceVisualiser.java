@@ -118,7 +118,7 @@ public class PerformanceVisualiser {
             XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
 
             // Define colors for different algorithms
-            Color[] colors = {Color.RED, Color.BLUE, Color.GREEN};
+            Color[] colors = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
 
             for (int i = 0; i < dataset.getSeriesCount(); i++)
             {
@@ -0,0 +1,176 @@
+package Algorithms;
+
+import Model.ProblemInstance;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Cost evaluation backend built on the incubating Vector API.
+ * Works over its own structure-of-arrays copy of the instance. Skill and difficulty
+ * mismatches are counted with gathers across SIMD lanes, and the overload reduction over
+ * employees is vectorised. Workload and deadline accumulation stay scalar because they
+ * are order dependent scatters. Totals are identical to {@link CostKernel}.
+ * Only reached through {@link CostFunction#vector(ProblemInstance)}, which falls back to
+ * the scalar kernel when the module is not available.
+ * Lives in the optional src/vector/java source set, built only by ./build.sh vector, so the
+ * application itself never needs the incubator module.
+ */
+public final class VectorCostKernel implements CostFunction
+{
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private final ProblemInstance problem;
+    private final int numTasks;
+    private final int numEmployees;
+
+    // Task data in task index order
+    private final int[] difficulty;
+    private final int[] requiredSkill;
+
+    // Task data in deadline processing order
+    private final int[] orderedTask;
+    private final int[] orderedTime;
+    private final int[] orderedDeadline;
+
+    // Employee data
+    private final int[] skillLevel;
+    private final int[] skillBits;
+    private final int[] availableHours;
+
+    private VectorCostKernel(ProblemInstance problem)
+    {
+        this.problem = problem;
+        this.numTasks = problem.getNumTasks();
+        this.numEmployees = problem.getNumEmployees();
+
+        this.difficulty = new int[numTasks];
+        this.requiredSkill = new int[numTasks];
+        this.orderedTask = new int[numTasks];
+        this.orderedTime = new int[numTasks];
+        this.orderedDeadline = new int[numTasks];
+        for (int t = 0; t < numTasks; t++)
+        {
+            difficulty[t] = problem.getDifficulty(t);
+            requiredSkill[t] = problem.getRequiredSkill(t);
+
+            int task = problem.getDeadlineOrder(t);
+            orderedTask[t] = task;
+            orderedTime[t] = problem.getEstimatedTime(task);
+            orderedDeadline[t] = problem.getDeadline(task);
+        }
+
+        this.skillLevel = new int[numEmployees];
+        this.skillBits = new int[numEmployees];
+        this.availableHours = new int[numEmployees];
+        for (int e = 0; e < numEmployees; e++)
+        {
+            skillLevel[e] = problem.getSkillLevel(e);
+            availableHours[e] = problem.getAvailableHours(e);
+            for (int skill = 0; skill < problem.getNumSkills(); skill++)
+            {
+                if (problem.hasSkillId(e, skill))
+                {
+                    skillBits[e] |= 1 << skill;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the backend for an instance.
+     *
+     * @param problem The compiled problem instance
+     * @return The vector backend, or the scalar kernel if the instance has more skills than fit in a lane
+     */
+    public static CostFunction create(ProblemInstance problem)
+    {
+        if (problem.getNumSkills() > Integer.SIZE)
+        {
+            return SCALAR;
+        }
+        return new VectorCostKernel(problem);
+    }
+
+    @Override
+    public double evaluate(int[] solution, ProblemInstance problem)
+    {
+        if (problem != this.problem)
+        {
+            return CostKernel.evaluate(solution, problem);
+        }
+
+        int skillMismatchCount = 0;
+        int skillLvlViolationCount = 0;
+
+        int t = 0;
+        int upper = SPECIES.loopBound(numTasks);
+        for (; t < upper; t += SPECIES.length())
+        {
+            IntVector employees = IntVector.fromArray(SPECIES, solution, t);
+            if (employees.compare(VectorOperators.LT, 0)
+                    .or(employees.compare(VectorOperators.GE, numEmployees)).anyTrue())
+            {
+                // Unassigned tasks cannot be gathered; they are rare enough to hand to the scalar kernel
+                return CostKernel.evaluate(solution, problem);
+            }
+
+            IntVector levels = IntVector.fromArray(SPECIES, skillLevel, 0, solution, t);
+            IntVector difficulties = IntVector.fromArray(SPECIES, difficulty, t);
+            skillLvlViolationCount += difficulties.compare(VectorOperators.GT, levels).trueCount();
+
+            IntVector skills = IntVector.fromArray(SPECIES, skillBits, 0, solution, t);
+            IntVector required = IntVector.fromArray(SPECIES, requiredSkill, t);
+            skillMismatchCount += skills.lanewise(VectorOperators.LSHR, required).and(1)
+                    .compare(VectorOperators.EQ, 0).trueCount();
+        }
+        for (; t < numTasks; t++)
+        {
+            int employeeIdx = solution[t];
+            if (!problem.isAssigned(employeeIdx))
+            {
+                return CostKernel.evaluate(solution, problem);
+            }
+            if (((skillBits[employeeIdx] >>> requiredSkill[t]) & 1) == 0)
+            {
+                skillMismatchCount++;
+            }
+            if (difficulty[t] > skillLevel[employeeIdx])
+            {
+                skillLvlViolationCount++;
+            }
+        }
+
+        // Workload and deadlines depend on processing order, so they are accumulated in one scalar scan
+        int[] workload = CostKernel.workloadScratch(numEmployees);
+        int deadlineViolationHrs = 0;
+        for (int rank = 0; rank < numTasks; rank++)
+        {
+            int employeeIdx = solution[orderedTask[rank]];
+            int completionTime = workload[employeeIdx] + orderedTime[rank];
+            workload[employeeIdx] = completionTime;
+            if (completionTime > orderedDeadline[rank])
+            {
+                deadlineViolationHrs += completionTime - orderedDeadline[rank];
+            }
+        }
+
+        int overloadHrs = 0;
+        int e = 0;
+        int employeeUpper = SPECIES.loopBound(numEmployees);
+        for (; e < employeeUpper; e += SPECIES.length())
+        {
+            overloadHrs += IntVector.fromArray(SPECIES, workload, e)
+                    .sub(IntVector.fromArray(SPECIES, availableHours, e))
+                    .max(0)
+                    .reduceLanes(VectorOperators.ADD);
+        }
+        for (; e < numEmployees; e++)
+        {
+            overloadHrs += Math.max(0, workload[e] - availableHours[e]);
+        }
+
+        return CostCalculator.weightedTotal(overloadHrs, skillMismatchCount, skillLvlViolationCount,
+                0, deadlineViolationHrs);
+    }
+}